@@ -0,0 +1,117 @@
+package xyz.ressor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.ressor.benchmarks.model.Pricing;
+import xyz.ressor.benchmarks.model.PricingImpl;
+import xyz.ressor.benchmarks.model.PricingService;
+import xyz.ressor.service.RessorService;
+import xyz.ressor.service.proxy.ProxyContext;
+import xyz.ressor.service.proxy.ServiceProxyBuilder;
+import xyz.ressor.source.LoadedResource;
+import xyz.ressor.source.SourceVersion;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static xyz.ressor.translator.Translators.string;
+
+/**
+ * Measures the cost of a single call through the Ressor generated service proxy, compared with the direct call
+ * on the underlying instance.
+ * <p/>
+ * Run with <b>./gradlew :ressor-benchmarks:jmh</b>, the GC profiler is enabled by default, so the
+ * <b>gc.alloc.rate.norm</b> metric reports the allocated bytes per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProxyDispatchBenchmark {
+    private static final String DATA = "3";
+    private final ServiceProxyBuilder proxyBuilder = new ServiceProxyBuilder(true);
+    private long quantity = 42;
+
+    private Pricing directInterface;
+    private PricingService directClass;
+    private Pricing interfaceProxy;
+    private PricingService classProxy;
+    private Pricing objectMethodsProxy;
+    private Pricing extensionProxy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        directInterface = new PricingImpl(DATA);
+        directClass = new PricingService(DATA);
+
+        interfaceProxy = load(proxyBuilder.buildProxy(ProxyContext.<Pricing, String>builder(Pricing.class)
+                .translator(string())
+                .factory(PricingImpl::new)
+                .proxyObjectClassMethods(false)
+                .build()));
+        classProxy = load(proxyBuilder.buildProxy(ProxyContext.<PricingService, String>builder(PricingService.class)
+                .translator(string())
+                .proxyObjectClassMethods(false)
+                .build()));
+        objectMethodsProxy = load(proxyBuilder.buildProxy(ProxyContext.<Pricing, String>builder(Pricing.class)
+                .translator(string())
+                .factory(PricingImpl::new)
+                .proxyObjectClassMethods(true)
+                .build()));
+        extensionProxy = load(proxyBuilder.buildProxy(ProxyContext.<Pricing, String>builder(Pricing.class)
+                .translator(string())
+                .factory(PricingImpl::new)
+                .proxyObjectClassMethods(false)
+                .addExtension(new TaggedExtension())
+                .build()));
+    }
+
+    @Benchmark
+    public long directInterface() {
+        return directInterface.price(quantity);
+    }
+
+    @Benchmark
+    public long directClass() {
+        return directClass.price(quantity);
+    }
+
+    @Benchmark
+    public int directHashCode() {
+        return directInterface.hashCode();
+    }
+
+    @Benchmark
+    public long interfaceProxy() {
+        return interfaceProxy.price(quantity);
+    }
+
+    @Benchmark
+    public long classProxy() {
+        return classProxy.price(quantity);
+    }
+
+    @Benchmark
+    public long objectMethodsProxy() {
+        return objectMethodsProxy.price(quantity);
+    }
+
+    @Benchmark
+    public int objectMethodsProxyHashCode() {
+        return objectMethodsProxy.hashCode();
+    }
+
+    @Benchmark
+    public long extensionProxy() {
+        return extensionProxy.price(quantity);
+    }
+
+    private static <T> T load(T proxy) {
+        ((RessorService<T>) proxy).reload(new LoadedResource(new ByteArrayInputStream(DATA.getBytes(UTF_8)),
+                SourceVersion.EMPTY, null));
+        return proxy;
+    }
+
+}
@@ -0,0 +1,14 @@
+package xyz.ressor.benchmarks;
+
+import net.bytebuddy.dynamic.DynamicType;
+import xyz.ressor.benchmarks.model.Tagged;
+import xyz.ressor.ext.ServiceExtension;
+
+public class TaggedExtension implements ServiceExtension {
+
+    @Override
+    public <T> DynamicType.Builder<T> interceptProxy(DynamicType.Builder<T> builder, Class<T> type) {
+        return builder.implement(Tagged.class);
+    }
+
+}
@@ -0,0 +1,7 @@
+package xyz.ressor.benchmarks.model;
+
+public interface Pricing {
+
+    long price(long quantity);
+
+}
@@ -0,0 +1,24 @@
+package xyz.ressor.benchmarks.model;
+
+public class PricingImpl implements Pricing {
+    private final long factor;
+
+    public PricingImpl(String data) {
+        this.factor = Long.parseLong(data.trim());
+    }
+
+    @Override
+    public long price(long quantity) {
+        return quantity * factor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(factor);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PricingImpl && ((PricingImpl) obj).factor == factor;
+    }
+}
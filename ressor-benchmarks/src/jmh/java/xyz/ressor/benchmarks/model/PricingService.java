@@ -0,0 +1,20 @@
+package xyz.ressor.benchmarks.model;
+
+import xyz.ressor.commons.annotations.ServiceFactory;
+
+public class PricingService {
+    private final long factor;
+
+    public PricingService() {
+        this.factor = 0;
+    }
+
+    @ServiceFactory
+    public PricingService(String data) {
+        this.factor = Long.parseLong(data.trim());
+    }
+
+    public long price(long quantity) {
+        return quantity * factor;
+    }
+}
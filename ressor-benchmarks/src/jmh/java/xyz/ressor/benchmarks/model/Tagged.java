@@ -0,0 +1,7 @@
+package xyz.ressor.benchmarks.model;
+
+/**
+ * Marker interface implemented by the proxy classes generated with {@link xyz.ressor.benchmarks.TaggedExtension}.
+ */
+public interface Tagged {
+}
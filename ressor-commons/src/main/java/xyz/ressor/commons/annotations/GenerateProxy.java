@@ -0,0 +1,18 @@
+package xyz.ressor.commons.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Used for marking a service class or interface, which proxy should be generated at compile time by the
+ * <b>ressor-processor</b> annotation processor instead of runtime bytecode generation.
+ *
+ * The pregenerated proxy is used only when no extensions, proxy default arguments or constant dispatch were requested for
+ * the service, otherwise Ressor falls back to the runtime generation.
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GenerateProxy {
+}
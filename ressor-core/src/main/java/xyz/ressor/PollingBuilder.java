@@ -1,12 +1,15 @@
 package xyz.ressor;
 
+import xyz.ressor.loader.PollingManager;
 import xyz.ressor.loader.QuartzManager;
 import xyz.ressor.loader.QuartzServiceLoader;
 import xyz.ressor.service.ServiceManager;
 import xyz.ressor.service.proxy.RessorServiceImpl;
 import xyz.ressor.source.Source;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static xyz.ressor.service.proxy.StateVariables.LOADER;
 import static xyz.ressor.service.proxy.StateVariables.SOURCE;
@@ -17,12 +20,15 @@ import static xyz.ressor.service.proxy.StateVariables.SOURCE;
 public class PollingBuilder {
     private final RessorServiceImpl service;
     private final ServiceManager serviceManager;
-    private final QuartzManager manager;
+    private final PollingManager manager;
+    private final Supplier<QuartzManager> quartzManager;
 
-    public PollingBuilder(RessorServiceImpl service, ServiceManager serviceManager, QuartzManager manager) {
+    public PollingBuilder(RessorServiceImpl service, ServiceManager serviceManager, PollingManager manager,
+                          Supplier<QuartzManager> quartzManager) {
         this.service = service;
         this.serviceManager = serviceManager;
         this.manager = manager;
+        this.quartzManager = quartzManager;
     }
 
     /**
@@ -32,8 +38,20 @@ public class PollingBuilder {
      * @param unit the unit of time
      */
     public void every(int timeValue, TimeUnit unit) {
-        var loader = new QuartzServiceLoader(service, (Source) service.state(SOURCE), serviceManager, manager);
-        loader.start(timeValue, unit);
+        var loader = manager.every(service, (Source) service.state(SOURCE), serviceManager, timeValue, unit);
+        service.state(LOADER, loader);
+    }
+
+    /**
+     * Poll the {@link Source} for the new version of data, if available, with the interval adapting to the frequency of
+     * changes. The interval starts at min, doubles after every poll which didn't detect a change, up to max, and drops
+     * back to min once the change is detected. The next poll is scheduled after the previous one completes.
+     *
+     * @param min the interval right after the change, which bounds the latency of the bursts of changes
+     * @param max the interval for the rarely changing resource
+     */
+    public void adaptive(Duration min, Duration max) {
+        var loader = manager.adaptive(service, (Source) service.state(SOURCE), serviceManager, min, max);
         service.state(LOADER, loader);
     }
 
@@ -47,7 +65,7 @@ public class PollingBuilder {
      * @param expression the cron expression
      */
     public void cron(String expression) {
-        var loader = new QuartzServiceLoader(service, (Source) service.state(SOURCE), serviceManager, manager);
+        var loader = new QuartzServiceLoader(service, (Source) service.state(SOURCE), serviceManager, quartzManager.get());
         loader.start(expression);
         service.state(LOADER, loader);
     }
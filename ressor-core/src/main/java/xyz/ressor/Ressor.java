@@ -3,12 +3,18 @@ package xyz.ressor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import xyz.ressor.commons.watch.fs.FileSystemWatchService;
+import xyz.ressor.config.PollingScheduler;
 import xyz.ressor.config.RessorConfig;
 import xyz.ressor.loader.ListeningServiceLoader;
+import xyz.ressor.loader.PollingManager;
 import xyz.ressor.loader.QuartzManager;
 import xyz.ressor.loader.ServiceLoaderBase;
+import xyz.ressor.loader.TimerWheelManager;
+import xyz.ressor.metrics.RessorMetrics;
+import xyz.ressor.metrics.jmx.RessorJmx;
 import xyz.ressor.service.RessorService;
 import xyz.ressor.service.ServiceManager;
+import xyz.ressor.service.ServiceSnapshot;
 import xyz.ressor.service.proxy.RessorServiceImpl;
 import xyz.ressor.source.Source;
 import xyz.ressor.source.fs.FileSystemSource;
@@ -30,12 +36,15 @@ import static xyz.ressor.service.proxy.StateVariables.SOURCE;
  */
 public class Ressor {
     private static final Logger log = LoggerFactory.getLogger(Ressor.class);
-    private final QuartzManager quartzManager;
+    private final PollingManager pollingManager;
+    private volatile QuartzManager quartzManager;
     private final FileSystemSource fileSystemSource;
     private final FileSystemWatchService fsWatchService;
     private final RessorConfig config;
     private final ActionsManager actionsManager;
     private final ServiceManager serviceManager;
+    private final RessorMetrics metrics;
+    private final RessorJmx jmx;
 
     public static Ressor create() {
         return create(new RessorConfig());
@@ -50,11 +59,18 @@ public class Ressor {
         if (config.threadPool() == null) {
             config.threadPool(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()));
         }
-        this.quartzManager = new QuartzManager(config.pollingThreads());
+        if (config.pollingScheduler() == PollingScheduler.QUARTZ) {
+            this.quartzManager = new QuartzManager(config.pollingThreads());
+            this.pollingManager = quartzManager;
+        } else {
+            this.pollingManager = new TimerWheelManager(config.pollingTickMillis());
+        }
         this.fsWatchService = new FileSystemWatchService().init();
-        this.fileSystemSource = new FileSystemSource(fsWatchService);
-        this.serviceManager = new ServiceManager(config);
+        this.fileSystemSource = new FileSystemSource(fsWatchService, config.isMemoryMappedFiles());
+        this.metrics = new RessorMetrics(config.threadPool(), pollingManager);
+        this.serviceManager = new ServiceManager(config, metrics);
         this.actionsManager = new ActionsManager(serviceManager, config.threadPool());
+        this.jmx = config.isJmxEnabled() ? new RessorJmx(this, metrics).register() : null;
     }
 
     /**
@@ -100,12 +116,13 @@ public class Ressor {
     public <T> PollingBuilder poll(T service) {
         return checkRessorService(service, ressorService -> {
             checkAndStopLoaderIfRequired(ressorService);
-            return new PollingBuilder(ressorService, serviceManager, quartzManager);
+            return new PollingBuilder(ressorService, serviceManager, pollingManager, this::quartzManager);
         });
     }
 
     /**
-     * Forces the service to reload from the underlying data source. This methods blocks until the reload completion.
+     * Forces the service to reload from the underlying data source. This methods blocks until the reload completion,
+     * but doesn't wait for the reloads already in flight, the instance built by this one is not replaced by theirs.
      *
      * @param service Ressor service to be reloaded
      * @param <T> service public type
@@ -129,10 +146,61 @@ public class Ressor {
         });
     }
 
+    /**
+     * Returns the current underlying instance of the service. Unlike the service proxy, the returned instance doesn't
+     * change on reloads, so it can be used for a unit of work which should observe a single version of the service,
+     * without the proxy overhead.
+     * <p/>
+     * Not available for the services with a retirement hook, since nothing would keep the returned instance from being
+     * retired (and its off-heap payload from being released) while it's still in use, please use {@link #pin(Object...)}
+     * for them instead.
+     *
+     * @param service Ressor service proxy instance
+     * @param <T> service public type
+     * @return the underlying service instance
+     * @throws IllegalStateException if the service has a retirement hook
+     */
+    public <T> T snapshot(T service) {
+        return checkRessorService(service, ressorService -> {
+            if (ressorService.isTracked()) {
+                throw new IllegalStateException("The instance of the service with a retirement hook can't be used " +
+                        "after it's retired, please use Ressor#pin instead");
+            }
+            return (T) ressorService.instance();
+        });
+    }
+
+    /**
+     * Pins the current underlying instances of the given services, read consistently at once, until the returned
+     * snapshot is closed. Pinned instances can be obtained with {@link ServiceSnapshot#get(Object)}.
+     *
+     * @param services Ressor service proxy instances
+     * @return the snapshot of the services
+     */
+    public ServiceSnapshot pin(Object... services) {
+        return ServiceSnapshot.of(services);
+    }
+
     public ActionsManager actions() {
         return actionsManager;
     }
 
+    /**
+     * The reload statistics of the services created by this Ressor instance: phase timings, bytes read, reload
+     * outcomes and the age of the current versions.
+     */
+    public RessorMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * The MBeans of this Ressor instance and its services, or <b>null</b> if JMX is disabled, see
+     * {@link RessorConfig#jmxEnabled(boolean)}.
+     */
+    public RessorJmx jmx() {
+        return jmx;
+    }
+
     /**
      * Stops any periodic activity on the service (polling or listening).
      *
@@ -145,21 +213,39 @@ public class Ressor {
 
     /**
      * Shutdowns the current Ressor context. This includes stopping all polling, listening activities,
-     * as well as service reloads and associated actions. The internal thread pool is shutdown as well.
+     * as well as service reloads and associated actions. The internal thread pool is shutdown as well, and the MBeans
+     * are unregistered.
      * <p />
      * This operation doesn't affect the created services itself, they will be usable until they are
      * normally garbage collected by VM. Ressor doesn't keep any strong references to them.
      */
     public void shutdown() {
         try {
-            quartzManager.scheduler().shutdown();
+            pollingManager.shutdown();
+            if (quartzManager != null && quartzManager != pollingManager) {
+                quartzManager.shutdown();
+            }
             fsWatchService.destroy();
             config.threadPool().shutdownNow();
+            if (jmx != null) {
+                jmx.unregister();
+            }
         } catch (Throwable t) {
             log.error("Failed to completely shutdown Ressor: {}", t.getMessage(), t);
         }
     }
 
+    private QuartzManager quartzManager() {
+        if (quartzManager == null) {
+            synchronized (this) {
+                if (quartzManager == null) {
+                    quartzManager = new QuartzManager(config.pollingThreads());
+                }
+            }
+        }
+        return quartzManager;
+    }
+
     private static <T> void checkRessorService(T service, Consumer<RessorServiceImpl> action) {
         checkRessorService(service, (Function<RessorServiceImpl, Void>) rs -> {
            action.accept(rs);
@@ -3,11 +3,13 @@ package xyz.ressor;
 import xyz.ressor.commons.exceptions.RessorBuilderException;
 import xyz.ressor.config.RessorConfig;
 import xyz.ressor.ext.ServiceExtension;
+import xyz.ressor.service.Delta;
 import xyz.ressor.service.RessorService;
 import xyz.ressor.service.ServiceManager;
 import xyz.ressor.service.error.ErrorHandler;
 import xyz.ressor.service.proxy.ProxyContext;
 import xyz.ressor.service.proxy.ServiceProxyBuilder;
+import xyz.ressor.source.LoadedResource;
 import xyz.ressor.source.ResourceId;
 import xyz.ressor.source.Source;
 import xyz.ressor.source.fs.FileSystemResourceId;
@@ -16,13 +18,21 @@ import xyz.ressor.translator.Translator;
 import xyz.ressor.translator.TranslatorHelper;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static xyz.ressor.commons.utils.Exceptions.catchingConsumer;
 import static xyz.ressor.commons.utils.RessorUtils.firstNonNull;
 
 /**
@@ -56,6 +66,7 @@ public class RessorBuilder<ServiceType, DataType> {
     private final ServiceManager serviceManager;
     private Translator<InputStream, DataType> translator;
     private Function<DataType, ? extends ServiceType> factory;
+    private BiFunction<ServiceType, Delta<?, ?>, ? extends ServiceType> incrementalFactory;
     private Source source;
     private ResourceId resource;
     private ServiceType initialValue;
@@ -65,13 +76,16 @@ public class RessorBuilder<ServiceType, DataType> {
     private LinkedList<ServiceExtension> extensions = new LinkedList<>();
     private Object[] proxyDefaultArguments;
     private ErrorHandler errorHandler;
+    private boolean constantDispatch = false;
+    private String contentDigest;
+    private Consumer<? super ServiceType> onRetire;
 
     public RessorBuilder(Class<ServiceType> type, RessorConfig config, FileSystemSource fileSystemSource,
                          ServiceManager serviceManager) {
         this.type = type;
         this.config = config;
         this.fileSystemSource = fileSystemSource;
-        this.proxyBuilder = new ServiceProxyBuilder(config.isCacheClasses());
+        this.proxyBuilder = new ServiceProxyBuilder(config.isCacheClasses(), config.classDumpDirectory());
         this.serviceManager = serviceManager;
     }
 
@@ -85,6 +99,15 @@ public class RessorBuilder<ServiceType, DataType> {
         return (RessorBuilder<ServiceType, DT>) this;
     }
 
+    /**
+     * Same as {@link #translator(Translator)}, but for the translators accepting the data as a {@link ByteBuffer}.
+     * The sources, which already hold the data in memory, pass it without an intermediate {@link InputStream} copy,
+     * see {@link LoadedResource#getBuffers()}.
+     */
+    public <DT> RessorBuilder<ServiceType, DT> bufferTranslator(Translator<ByteBuffer, DT> translator) {
+        return translator(TranslatorHelper.inputStream2ByteBuffer(translator));
+    }
+
     /**
      * Your custom service factory. Service factory is responsible for creating your service instance,
      * accepting the resulting data generated by the {@link Translator}.
@@ -94,6 +117,24 @@ public class RessorBuilder<ServiceType, DataType> {
         return this;
     }
 
+    /**
+     * The alternative to {@link #factory(Function)}, which creates the new service instance from the previous one and
+     * the {@link Delta} between the previous and the current data, so that large services can patch their structures
+     * instead of rebuilding them from scratch on every reload.
+     * <p/>
+     * The {@link Translator} must provide a {@link Map}, see {@link xyz.ressor.translator.Translators#jsonMap(Class, Function)}
+     * for example. On the first reload the previous instance is <b>null</b> and all the data is added. Incremental reloads
+     * of the service are performed one at a time.
+     *
+     * @param factory the function accepting the previous instance and the data delta
+     * @param <K> data key type
+     * @param <V> data value type
+     */
+    public <K, V> RessorBuilder<ServiceType, DataType> incrementalFactory(BiFunction<ServiceType, Delta<K, V>, ? extends ServiceType> factory) {
+        this.incrementalFactory = (BiFunction) factory;
+        return this;
+    }
+
     /**
      * Tells Ressor to use the given file as a data source.
      */
@@ -190,6 +231,68 @@ public class RessorBuilder<ServiceType, DataType> {
         return this;
     }
 
+    /**
+     * Links the service proxy calls to the current underlying instance, so that JIT compiler can treat it as a constant
+     * and fully inline the service calls between reloads. In exchange, every reload deoptimizes the dependent compiled code,
+     * which makes it noticeably more expensive.
+     * <p/>
+     * Makes sense for the services which are called very frequently, but reloaded rarely. The generated proxy classes
+     * are never cached in this mode.
+     */
+    public RessorBuilder<ServiceType, DataType> constantDispatch() {
+        this.constantDispatch = true;
+        return this;
+    }
+
+    /**
+     * Same as {@link #contentDigest(String)} with SHA-256 algorithm.
+     */
+    public RessorBuilder<ServiceType, DataType> contentDigest() {
+        return contentDigest("SHA-256");
+    }
+
+    /**
+     * Hashes the loaded content with the given {@link MessageDigest} algorithm while it's being translated, and skips
+     * the service instance creation if the content is the same as of the latest successful reload. The latest known
+     * version of the resource is updated anyway.
+     * <p/>
+     * Useful for the sources which can report a new version for the same content, since the creation of a large service
+     * is usually much more expensive than hashing its data.
+     */
+    public RessorBuilder<ServiceType, DataType> contentDigest(String algorithm) {
+        try {
+            MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RessorBuilderException("Unknown content digest algorithm: " + algorithm);
+        }
+        this.contentDigest = algorithm;
+        return this;
+    }
+
+    /**
+     * Passes the service instance replaced by reload to the given hook, once all the calls to it made through the
+     * proxy are completed, so that the heavy resources it owns (off-heap buffers, thread pools, native indices, etc)
+     * can be released right away instead of waiting for the garbage collector.
+     * <p/>
+     * The proxy counts the calls in flight to each instance in this mode, which adds a small overhead to every call.
+     * The instances obtained with {@link RessorService#instance()} directly are not tracked.
+     */
+    public RessorBuilder<ServiceType, DataType> onRetire(Consumer<? super ServiceType> onRetire) {
+        this.onRetire = onRetire;
+        return this;
+    }
+
+    /**
+     * Same as {@link #onRetire(Consumer)}, closing the retired instances which implement {@link AutoCloseable}.
+     */
+    public RessorBuilder<ServiceType, DataType> closeOnRetire() {
+        return onRetire(catchingConsumer(instance -> {
+            if (instance instanceof AutoCloseable) {
+                ((AutoCloseable) instance).close();
+            }
+        }));
+    }
+
     /**
      * Builds the Ressor service proxy instance. Along with building, it will also conduct the
      * initial data load using {@link Source#load(ResourceId)} )}, either sync or async.
@@ -203,6 +306,23 @@ public class RessorBuilder<ServiceType, DataType> {
             throw new RessorBuilderException("No translator was provided, please pass it using " +
                     "RessorBuilder#translator() method.");
         }
+        if (incrementalFactory != null) {
+            if (factory != null) {
+                throw new RessorBuilderException("Both factory and incremental factory were provided, please use only one of them.");
+            }
+            if (!Map.class.isAssignableFrom(translator.outputType())) {
+                throw new RessorBuilderException(format("Incremental factory requires translator providing a Map, but %s was given",
+                        translator.outputType().getName()));
+            }
+        }
+        if (contentDigest != null && Stream.class.isAssignableFrom(translator.outputType())) {
+            throw new RessorBuilderException("Content digest can't be used along with the streaming translators, since " +
+                    "the content is read by the service factory.");
+        }
+        if (onRetire != null && constantDispatch) {
+            throw new RessorBuilderException("Retirement hook can't be used along with the constant dispatch, since the " +
+                    "calls linked to the previous instance can't be tracked.");
+        }
         if (resource == null) {
             throw new RessorBuilderException("No resource ID provided for the given source, please pass it using " +
                     "RessorBuilder#resource() method.");
@@ -219,14 +339,19 @@ public class RessorBuilder<ServiceType, DataType> {
                 .resource(resource)
                 .classLoader(classLoader)
                 .factory(factory)
+                .incrementalFactory(incrementalFactory)
                 .proxyDefaultArguments(proxyDefaultArguments)
                 .initialInstance(initialValue)
                 .translator(translator)
-                .errorHandler(firstNonNull(errorHandler, config.errorHandler()));
+                .errorHandler(firstNonNull(errorHandler, config.errorHandler()))
+                .constantDispatch(constantDispatch)
+                .contentDigest(contentDigest)
+                .onRetire(onRetire);
         if (extensions.size() > 0) {
             extensions.forEach(ctx::addExtension);
         }
         var proxy = (RessorService<ServiceType>) proxyBuilder.buildProxy(ctx.build());
+        serviceManager.metrics().register(proxy);
         if (isAsync) {
             serviceManager.reloadAsync(proxy, source);
         } else {
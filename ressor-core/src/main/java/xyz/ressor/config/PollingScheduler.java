@@ -0,0 +1,16 @@
+package xyz.ressor.config;
+
+/**
+ * The scheduler of the interval based polling, see {@link RessorConfig#pollingScheduler(PollingScheduler)}.
+ */
+public enum PollingScheduler {
+    /**
+     * Single thread hashed timer wheel, which handles any amount of schedules at a constant cost per tick, and submits
+     * the reloads right to the Ressor thread pool. The intervals are rounded up to {@link RessorConfig#pollingTickMillis()}.
+     */
+    TIMER_WHEEL,
+    /**
+     * Quartz scheduler with {@link RessorConfig#pollingThreads()} threads and a separate job per schedule.
+     */
+    QUARTZ
+}
@@ -2,6 +2,7 @@ package xyz.ressor.config;
 
 import xyz.ressor.service.error.ErrorHandler;
 
+import java.nio.file.Path;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -9,22 +10,33 @@ import java.util.concurrent.ExecutorService;
  */
 public class RessorConfig {
     private Integer pollingThreads;
+    private PollingScheduler pollingScheduler;
+    private Integer pollingTickMillis;
     private ExecutorService threadPool;
     private Boolean cacheClasses;
     private ErrorHandler errorHandler;
+    private Path classDumpDirectory;
+    private Boolean memoryMappedFiles;
+    private Boolean jmxEnabled;
 
     public RessorConfig() {
     }
 
     public RessorConfig(RessorConfig other) {
         this.pollingThreads = other.pollingThreads == null? Runtime.getRuntime().availableProcessors() : other.pollingThreads;
+        this.pollingScheduler = other.pollingScheduler == null ? PollingScheduler.QUARTZ : other.pollingScheduler;
+        this.pollingTickMillis = other.pollingTickMillis == null ? 10 : other.pollingTickMillis;
         this.threadPool = other.threadPool;
         this.cacheClasses = other.cacheClasses == null ? true : other.cacheClasses;
         this.errorHandler = other.errorHandler;
+        this.classDumpDirectory = other.classDumpDirectory;
+        this.memoryMappedFiles = other.memoryMappedFiles == null ? false : other.memoryMappedFiles;
+        this.jmxEnabled = other.jmxEnabled == null ? false : other.jmxEnabled;
     }
 
     /**
-     * The amount of threads used for polling.
+     * The amount of threads used for polling by Quartz, which runs the cron schedules, as well as the interval ones if
+     * {@link PollingScheduler#QUARTZ} is used.
      *
      * Default is available processors count
      */
@@ -32,6 +44,26 @@ public class RessorConfig {
         return pollingThreads;
     }
 
+    /**
+     * The scheduler of the interval based polling. Cron schedules are always run by Quartz, which is started only once
+     * the first cron schedule is created, unless it's the interval scheduler as well.
+     *
+     * Default is {@link PollingScheduler#QUARTZ}
+     */
+    public PollingScheduler pollingScheduler() {
+        return pollingScheduler;
+    }
+
+    /**
+     * The tick duration of the {@link PollingScheduler#TIMER_WHEEL} scheduler, to which the polling intervals are
+     * rounded up.
+     *
+     * Default is 10 milliseconds
+     */
+    public Integer pollingTickMillis() {
+        return pollingTickMillis;
+    }
+
     /**
      * The thread pool which is used by Ressor services for loading the resources data.
      *
@@ -57,11 +89,51 @@ public class RessorConfig {
         return errorHandler;
     }
 
+    /**
+     * The directory where generated proxy classes are saved to. Packed into a jar and put on the classpath, they are
+     * used instead of the runtime generation and can be archived with CDS.
+     *
+     * Default is null, meaning classes are not saved
+     */
+    public Path classDumpDirectory() {
+        return classDumpDirectory;
+    }
+
+    /**
+     * Whether the files of the file system source are memory mapped instead of being read through the stream.
+     * See {@link xyz.ressor.source.fs.FileSystemSource#isMemoryMapped()}.
+     *
+     * Default is false
+     */
+    public Boolean isMemoryMappedFiles() {
+        return memoryMappedFiles;
+    }
+
+    /**
+     * Whether to register the MBeans of the Ressor instance and its services in the platform MBean server, see
+     * {@link xyz.ressor.metrics.jmx.RessorMXBean} and {@link xyz.ressor.metrics.jmx.ServiceMXBean}.
+     *
+     * Default is false
+     */
+    public Boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
     public RessorConfig pollingThreads(int pollingThreads) {
         this.pollingThreads = pollingThreads;
         return this;
     }
 
+    public RessorConfig pollingScheduler(PollingScheduler pollingScheduler) {
+        this.pollingScheduler = pollingScheduler;
+        return this;
+    }
+
+    public RessorConfig pollingTickMillis(int pollingTickMillis) {
+        this.pollingTickMillis = pollingTickMillis;
+        return this;
+    }
+
     public RessorConfig threadPool(ExecutorService threadPool) {
         this.threadPool = threadPool;
         return this;
@@ -76,4 +148,19 @@ public class RessorConfig {
         this.errorHandler = errorHandler;
         return this;
     }
+
+    public RessorConfig classDumpDirectory(Path classDumpDirectory) {
+        this.classDumpDirectory = classDumpDirectory;
+        return this;
+    }
+
+    public RessorConfig memoryMappedFiles(boolean memoryMappedFiles) {
+        this.memoryMappedFiles = memoryMappedFiles;
+        return this;
+    }
+
+    public RessorConfig jmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+        return this;
+    }
 }
@@ -18,4 +18,15 @@ public interface ServiceExtension {
      */
     <T> DynamicType.Builder<T> interceptProxy(DynamicType.Builder<T> builder, Class<T> type);
 
+    /**
+     * The key which identifies the changes made by this extension to the proxy class. Generated proxy classes are reused
+     * for the services of the same type having extensions with equal keys, so the key must properly implement
+     * equals/hashCode and reflect all the extension state which affects the bytecode.
+     *
+     * @return the cache key, or null if proxy classes with this extension should never be reused
+     */
+    default Object cacheKey() {
+        return null;
+    }
+
 }
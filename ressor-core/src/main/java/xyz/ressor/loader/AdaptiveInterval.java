@@ -0,0 +1,60 @@
+package xyz.ressor.loader;
+
+import java.time.Duration;
+
+/**
+ * The polling interval, which doubles after every poll without changes, up to the maximum, and drops back to the
+ * minimum once a change is detected. Failed polls back off the same way as the unchanged ones.
+ */
+public class AdaptiveInterval {
+    private final long minNanos;
+    private final long maxNanos;
+    private volatile long currentNanos;
+
+    public AdaptiveInterval(Duration min, Duration max) {
+        if (min.isNegative() || min.isZero() || max.compareTo(min) < 0) {
+            throw new IllegalArgumentException("Adaptive polling requires 0 < min <= max, but was min = " + min +
+                    ", max = " + max);
+        }
+        this.minNanos = nanos(min);
+        this.maxNanos = nanos(max);
+        this.currentNanos = minNanos;
+    }
+
+    public Duration min() {
+        return Duration.ofNanos(minNanos);
+    }
+
+    public Duration max() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * The delay before the next poll.
+     */
+    public Duration current() {
+        return Duration.ofNanos(currentNanos);
+    }
+
+    /**
+     * Moves to the next interval after the poll completion. Polls of a single service never run concurrently, so no
+     * synchronization is required here.
+     *
+     * @param changed whether the poll has detected the change
+     * @return the delay before the next poll
+     */
+    public Duration next(boolean changed) {
+        var current = currentNanos;
+        currentNanos = changed ? minNanos : current > maxNanos / 2 ? maxNanos : current * 2;
+        return current();
+    }
+
+    private static long nanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package xyz.ressor.loader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import xyz.ressor.metrics.jfr.SourceChangeEvent;
 import xyz.ressor.service.RessorService;
 import xyz.ressor.service.ServiceManager;
 import xyz.ressor.source.Source;
@@ -18,6 +19,11 @@ public class ListeningServiceLoader extends ServiceLoaderBase {
         }
         log.debug("{}: subscribing resource {} to {} source", service.underlyingType(), service.getResourceId(), source.describe());
         this.subscription = source.subscribe(service.getResourceId(), () -> {
+            var event = new SourceChangeEvent();
+            if (event.isEnabled()) {
+                event.describe(service, source);
+                event.commit();
+            }
             serviceManager.reloadAsync(service, source)
                     .whenComplete((result, t) -> {
                         if (t != null) {
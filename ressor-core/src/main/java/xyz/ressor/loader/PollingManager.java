@@ -0,0 +1,44 @@
+package xyz.ressor.loader;
+
+import xyz.ressor.service.RessorService;
+import xyz.ressor.service.ServiceManager;
+import xyz.ressor.source.Source;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the interval based polling of the service sources, see
+ * {@link xyz.ressor.config.RessorConfig#pollingScheduler(xyz.ressor.config.PollingScheduler)}.
+ */
+public interface PollingManager {
+
+    /**
+     * Starts polling the source of the service for every given time amount.
+     *
+     * @return the loader, which stops the polling
+     */
+    PollingServiceLoader every(RessorService service, Source source, ServiceManager serviceManager, int every,
+                               TimeUnit unit);
+
+    /**
+     * Starts polling the source of the service with the adaptive interval, see {@link AdaptiveInterval}.
+     *
+     * @return the loader, which stops the polling
+     */
+    PollingServiceLoader adaptive(RessorService service, Source source, ServiceManager serviceManager, Duration min,
+                                  Duration max);
+
+    /**
+     * The amount of the polling threads.
+     */
+    int poolSize();
+
+    /**
+     * The amount of the polling jobs running right now.
+     */
+    int activeJobs();
+
+    void shutdown();
+
+}
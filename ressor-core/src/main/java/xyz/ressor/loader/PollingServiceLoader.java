@@ -0,0 +1,84 @@
+package xyz.ressor.loader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.ressor.metrics.jfr.PollEvent;
+import xyz.ressor.service.RessorService;
+import xyz.ressor.service.ServiceManager;
+import xyz.ressor.service.proxy.RessorServiceImpl;
+import xyz.ressor.source.Source;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The base of the loaders, which poll the source by schedule.
+ */
+public abstract class PollingServiceLoader extends ServiceLoaderBase {
+    private static final Logger log = LoggerFactory.getLogger(PollingServiceLoader.class);
+    protected Duration interval;
+    protected String expression;
+    protected AdaptiveInterval adaptive;
+
+    protected PollingServiceLoader(RessorService service, Source source) {
+        super(service, source);
+    }
+
+    /**
+     * The polling interval, or <b>null</b> if polling by cron expression. For the adaptive polling, it's the current
+     * interval.
+     */
+    public Duration interval() {
+        return adaptive == null ? interval : adaptive.current();
+    }
+
+    /**
+     * The adaptive polling interval, or <b>null</b> if polling by the fixed schedule.
+     */
+    public AdaptiveInterval adaptive() {
+        return adaptive;
+    }
+
+    /**
+     * The polling cron expression, or <b>null</b> if polling by interval.
+     */
+    public String expression() {
+        return expression;
+    }
+
+    /**
+     * Triggers the non forced reload of the service on a single schedule firing.
+     *
+     * @return the reload result, or <b>null</b> if the service or its source were garbage collected, so the polling
+     * should be stopped
+     */
+    static CompletableFuture<Boolean> poll(ServiceManager serviceManager, RessorServiceImpl service, Source source) {
+        var event = new PollEvent();
+        event.begin();
+        try {
+            if (event.isEnabled()) {
+                event.expired(service == null || source == null);
+                if (service != null) {
+                    event.describe(service, source);
+                }
+            }
+            if (service == null || source == null) {
+                return null;
+            }
+            service.metrics().recordPoll();
+            return serviceManager.tryReloadAsync(service, source)
+                    .whenComplete((result, t) -> {
+                        if (t != null) {
+                            log.error("Failed reloading service {} from [source: {}, resource: {}]: {}", service.underlyingType(), source.describe(), service.getResourceId(), t.getMessage(), t);
+                        } else if (!result) {
+                            log.debug("Service {} wasn't changed, skipping until the next trigger execution ...", service.underlyingType());
+                        } else {
+                            log.debug("Service {} reload completed.", service.underlyingType());
+                        }
+                    });
+        } finally {
+            event.commit();
+        }
+    }
+
+}
@@ -3,8 +3,6 @@ package xyz.ressor.loader;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import xyz.ressor.service.ServiceManager;
 import xyz.ressor.service.proxy.RessorServiceImpl;
 import xyz.ressor.source.Source;
@@ -12,7 +10,6 @@ import xyz.ressor.source.Source;
 import java.lang.ref.WeakReference;
 
 public class QuartzLoaderJob implements Job {
-    private static final Logger log = LoggerFactory.getLogger(QuartzLoaderJob.class);
 
     @Override
     public void execute(JobExecutionContext ctx) throws JobExecutionException {
@@ -21,22 +18,16 @@ public class QuartzLoaderJob implements Job {
             var serviceR = (WeakReference<RessorServiceImpl>) ctx.getMergedJobDataMap().get(QuartzServiceLoader.SERVICE_KEY);
             var sourceR = (WeakReference<Source>) ctx.getMergedJobDataMap().get(QuartzServiceLoader.SOURCE_KEY);
 
-            final var service = serviceR.get();
-            final var source = sourceR.get();
+            var adaptive = (AdaptiveInterval) ctx.getMergedJobDataMap().get(QuartzServiceLoader.ADAPTIVE_KEY);
 
-            if (service == null || source == null) {
+            var result = PollingServiceLoader.poll(serviceManager, serviceR.get(), sourceR.get());
+            if (result == null) {
                 ctx.getScheduler().deleteJob(ctx.getJobDetail().getKey());
-            } else {
-                serviceManager.tryReloadAsync(service, source)
-                        .whenComplete((result, t) -> {
-                            if (t != null) {
-                                log.error("Failed reloading service {} from [source: {}, resource: {}]: {}", service.underlyingType(), source.describe(), service.getResourceId(), t.getMessage(), t);
-                            } else if (!result) {
-                                log.debug("Service {} is already reloading, skipping until the next trigger execution ...", service.underlyingType());
-                            } else {
-                                log.debug("Service {} reload completed.", service.underlyingType());
-                            }
-                        });
+            } else if (adaptive != null) {
+                var scheduler = ctx.getScheduler();
+                var jobKey = ctx.getJobDetail().getKey();
+                result.whenComplete((r, t) -> QuartzServiceLoader.scheduleNext(scheduler, jobKey,
+                        adaptive.next(t == null && r)));
             }
         } catch (Throwable t) {
             throw new JobExecutionException(t.getMessage(), t);
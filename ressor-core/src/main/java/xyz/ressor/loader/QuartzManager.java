@@ -1,13 +1,19 @@
 package xyz.ressor.loader;
 
 import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
 import org.quartz.simpl.RAMJobStore;
 import xyz.ressor.commons.utils.Exceptions;
+import xyz.ressor.service.RessorService;
+import xyz.ressor.service.ServiceManager;
+import xyz.ressor.source.Source;
 
+import java.time.Duration;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
-public class QuartzManager {
+public class QuartzManager implements PollingManager {
     private final Scheduler scheduler;
 
     public QuartzManager(int pollingThreads) {
@@ -35,4 +41,47 @@ public class QuartzManager {
         return scheduler;
     }
 
+    @Override
+    public PollingServiceLoader every(RessorService service, Source source, ServiceManager serviceManager, int every,
+                                      TimeUnit unit) {
+        var loader = new QuartzServiceLoader(service, source, serviceManager, this);
+        loader.start(every, unit);
+        return loader;
+    }
+
+    @Override
+    public PollingServiceLoader adaptive(RessorService service, Source source, ServiceManager serviceManager,
+                                         Duration min, Duration max) {
+        var loader = new QuartzServiceLoader(service, source, serviceManager, this);
+        loader.start(min, max);
+        return loader;
+    }
+
+    @Override
+    public int poolSize() {
+        try {
+            return scheduler.getMetaData().getThreadPoolSize();
+        } catch (SchedulerException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+    @Override
+    public int activeJobs() {
+        try {
+            return scheduler.getCurrentlyExecutingJobs().size();
+        } catch (SchedulerException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        try {
+            scheduler.shutdown();
+        } catch (SchedulerException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
 }
@@ -2,15 +2,20 @@ package xyz.ressor.loader;
 
 import org.quartz.JobDataMap;
 import org.quartz.JobKey;
+import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import xyz.ressor.commons.utils.Exceptions;
 import xyz.ressor.service.RessorService;
 import xyz.ressor.service.ServiceManager;
 import xyz.ressor.source.Source;
 
 import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
@@ -19,11 +24,13 @@ import static org.quartz.JobBuilder.newJob;
 import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
 import static org.quartz.TriggerBuilder.newTrigger;
 
-public class QuartzServiceLoader extends ServiceLoaderBase {
+public class QuartzServiceLoader extends PollingServiceLoader {
+    private static final Logger log = LoggerFactory.getLogger(QuartzServiceLoader.class);
     private static final TimeZone UTC = TimeZone.getTimeZone(ZoneOffset.UTC);
     static final String SERVICE_MANAGER_KEY = "__smk";
     static final String SERVICE_KEY = "__rs";
     static final String SOURCE_KEY = "__sk";
+    static final String ADAPTIVE_KEY = "__ak";
     private final ServiceManager serviceManager;
     private final QuartzManager quartzManager;
     private JobKey jobKey;
@@ -36,6 +43,7 @@ public class QuartzServiceLoader extends ServiceLoaderBase {
     }
 
     public void start(String expression) {
+        this.expression = expression;
         var trigger = newTrigger()
                 .withSchedule(cronSchedule(expression).inTimeZone(UTC))
                 .build();
@@ -43,6 +51,7 @@ public class QuartzServiceLoader extends ServiceLoaderBase {
     }
 
     public void start(int every, TimeUnit unit) {
+        this.interval = Duration.ofMillis(unit.toMillis(every));
         var trigger = newTrigger()
                 .withSchedule(simpleSchedule()
                         .withIntervalInMilliseconds(unit.toMillis(every))
@@ -51,14 +60,26 @@ public class QuartzServiceLoader extends ServiceLoaderBase {
         start(trigger);
     }
 
+    /**
+     * Polls with the adaptive interval, by scheduling a single firing trigger every time the previous poll completes.
+     */
+    public void start(Duration min, Duration max) {
+        this.adaptive = new AdaptiveInterval(min, max);
+        start(newTrigger().startAt(after(adaptive.current())).build());
+    }
+
     private void start(Trigger trigger) {
         var scheduler = quartzManager.scheduler();
         var dataMap = new JobDataMap();
         dataMap.put(SERVICE_MANAGER_KEY, serviceManager);
         dataMap.put(SERVICE_KEY, new WeakReference<>(service));
         dataMap.put(SOURCE_KEY, new WeakReference<>(source));
+        if (adaptive != null) {
+            dataMap.put(ADAPTIVE_KEY, adaptive);
+        }
         var job = newJob(QuartzLoaderJob.class)
                 .usingJobData(dataMap)
+                .storeDurably(adaptive != null)
                 .build();
         try {
             scheduler.scheduleJob(job, trigger);
@@ -68,6 +89,23 @@ public class QuartzServiceLoader extends ServiceLoaderBase {
         }
     }
 
+    /**
+     * Schedules the next firing of the adaptive polling job, unless it was stopped already.
+     */
+    static void scheduleNext(Scheduler scheduler, JobKey jobKey, Duration delay) {
+        try {
+            if (scheduler.checkExists(jobKey)) {
+                scheduler.scheduleJob(newTrigger().forJob(jobKey).startAt(after(delay)).build());
+            }
+        } catch (SchedulerException e) {
+            log.debug("Unable to schedule the next poll of the job {}: {}", jobKey, e.getMessage());
+        }
+    }
+
+    private static Date after(Duration delay) {
+        return new Date(System.currentTimeMillis() + delay.toMillis());
+    }
+
     @Override
     public void stop() {
         if (jobKey != null) {
@@ -0,0 +1,200 @@
+package xyz.ressor.loader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.ressor.service.RessorService;
+import xyz.ressor.service.ServiceManager;
+import xyz.ressor.service.proxy.RessorServiceImpl;
+import xyz.ressor.source.Source;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Polls the sources by the hashed timer wheel, driven by a single thread.
+ * <p/>
+ * Every tick only the schedules of a single wheel bucket are visited, so the cost of a tick doesn't depend on the total
+ * amount of schedules. The due polls are submitted right to the Ressor thread pool, the ticking thread never loads
+ * anything itself. The intervals are rounded up to the whole ticks. The adaptive schedules are put back to the wheel once
+ * their poll is completed, so the next delay is counted from the completion.
+ */
+public class TimerWheelManager implements PollingManager {
+    private static final Logger log = LoggerFactory.getLogger(TimerWheelManager.class);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private final Queue<Schedule> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final ArrayList<Schedule>[] wheel;
+    private final long tickNanos;
+    private final Thread ticker;
+    private ArrayList<Schedule> spare = new ArrayList<>();
+    private long tick = 0;
+    private volatile boolean running = true;
+
+    public TimerWheelManager(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Polling tick should be positive, but was " + tickMillis);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new ArrayList[WHEEL_SIZE];
+        for (var i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.ticker = new Thread(this::run, "ressor-poller");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    @Override
+    public PollingServiceLoader every(RessorService service, Source source, ServiceManager serviceManager, int every,
+                                      TimeUnit unit) {
+        var schedule = new Schedule((RessorServiceImpl) service.unwrap(), source, serviceManager, null);
+        schedule.ticks = ticks(unit.toNanos(every));
+        pending.add(schedule);
+        var loader = new TimerWheelServiceLoader(service, source, schedule);
+        loader.interval = Duration.ofMillis(unit.toMillis(every));
+        return loader;
+    }
+
+    @Override
+    public PollingServiceLoader adaptive(RessorService service, Source source, ServiceManager serviceManager,
+                                         Duration min, Duration max) {
+        var adaptive = new AdaptiveInterval(min, max);
+        var schedule = new Schedule((RessorServiceImpl) service.unwrap(), source, serviceManager, adaptive);
+        schedule.ticks = ticks(adaptive.current().toNanos());
+        pending.add(schedule);
+        var loader = new TimerWheelServiceLoader(service, source, schedule);
+        loader.adaptive = adaptive;
+        return loader;
+    }
+
+    @Override
+    public int poolSize() {
+        return 1;
+    }
+
+    /**
+     * The amount of the reloads triggered by the polling, which are not completed yet.
+     */
+    @Override
+    public int activeJobs() {
+        return activeJobs.get();
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+
+    private void run() {
+        var start = System.nanoTime();
+        while (running) {
+            var deadline = start + (tick + 1) * tickNanos;
+            long delay;
+            while (running && (delay = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, delay);
+            }
+            if (!running) {
+                break;
+            }
+            expire((int) (tick & MASK));
+            // placed only after the current bucket has expired, since a schedule of a whole number of wheel turns
+            // lands right into it
+            Schedule schedule;
+            while ((schedule = pending.poll()) != null) {
+                if (!schedule.cancelled) {
+                    place(schedule);
+                }
+            }
+            tick++;
+        }
+    }
+
+    private void expire(int index) {
+        var due = wheel[index];
+        wheel[index] = spare;
+        for (var schedule : due) {
+            if (schedule.cancelled) {
+                continue;
+            }
+            if (schedule.rounds > 0) {
+                schedule.rounds--;
+                wheel[index].add(schedule);
+            } else if (fire(schedule)) {
+                place(schedule);
+            }
+        }
+        due.clear();
+        spare = due;
+    }
+
+    /**
+     * Puts the schedule into the bucket, which is visited the given amount of ticks after the current one. Must be called
+     * only after the bucket of the current tick has expired.
+     */
+    private void place(Schedule schedule) {
+        schedule.rounds = (schedule.ticks - 1) / WHEEL_SIZE;
+        wheel[(int) ((tick + schedule.ticks) & MASK)].add(schedule);
+    }
+
+    /**
+     * @return whether the schedule should be placed again right away, the adaptive ones are placed again only once
+     * the poll is completed
+     */
+    private boolean fire(Schedule schedule) {
+        try {
+            var result = PollingServiceLoader.poll(schedule.serviceManager, schedule.service.get(), schedule.source.get());
+            if (result == null) {
+                schedule.cancelled = true;
+                return false;
+            }
+            activeJobs.incrementAndGet();
+            result.whenComplete((r, t) -> {
+                activeJobs.decrementAndGet();
+                if (schedule.adaptive != null) {
+                    schedule.ticks = ticks(schedule.adaptive.next(t == null && r).toNanos());
+                    pending.add(schedule);
+                }
+            });
+            return schedule.adaptive == null;
+        } catch (Throwable t) {
+            log.error("Failed polling the source: {}", t.getMessage(), t);
+            if (schedule.adaptive != null) {
+                schedule.ticks = ticks(schedule.adaptive.next(false).toNanos());
+            }
+            return true;
+        }
+    }
+
+    private long ticks(long nanos) {
+        return Math.max(1, nanos / tickNanos + (nanos % tickNanos == 0 ? 0 : 1));
+    }
+
+    static class Schedule {
+        private final WeakReference<RessorServiceImpl> service;
+        private final WeakReference<Source> source;
+        private final ServiceManager serviceManager;
+        private final AdaptiveInterval adaptive;
+        /**
+         * Changed only before the schedule is put to the pending queue, which publishes it to the ticking thread.
+         */
+        private long ticks;
+        private long rounds;
+        volatile boolean cancelled = false;
+
+        Schedule(RessorServiceImpl service, Source source, ServiceManager serviceManager, AdaptiveInterval adaptive) {
+            this.service = new WeakReference<>(service);
+            this.source = new WeakReference<>(source);
+            this.serviceManager = serviceManager;
+            this.adaptive = adaptive;
+        }
+    }
+
+}
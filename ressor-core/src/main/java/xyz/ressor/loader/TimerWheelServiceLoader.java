@@ -0,0 +1,19 @@
+package xyz.ressor.loader;
+
+import xyz.ressor.service.RessorService;
+import xyz.ressor.source.Source;
+
+public class TimerWheelServiceLoader extends PollingServiceLoader {
+    private final TimerWheelManager.Schedule schedule;
+
+    TimerWheelServiceLoader(RessorService service, Source source, TimerWheelManager.Schedule schedule) {
+        super(service, source);
+        this.schedule = schedule;
+    }
+
+    @Override
+    public void stop() {
+        schedule.cancelled = true;
+    }
+
+}
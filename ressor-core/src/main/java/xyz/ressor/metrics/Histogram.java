@@ -0,0 +1,101 @@
+package xyz.ressor.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size histogram of non-negative values, which doesn't allocate on recording.
+ * <p/>
+ * Every power of two range is split into two buckets, so the reported percentiles are the bucket upper bounds, which
+ * are never lower than the actual value and at most a half higher.
+ */
+public class Histogram {
+    static final int BUCKETS = 126;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    private volatile long last;
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+        last = value;
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public long sum() {
+        return sum.get();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * The most recently recorded value.
+     */
+    public long last() {
+        return last;
+    }
+
+    public double mean() {
+        var count = count();
+        return count == 0 ? 0 : (double) sum() / count;
+    }
+
+    /**
+     * The value which the given fraction of the recorded values doesn't exceed, rounded up to the bucket upper bound.
+     *
+     * @param percentile from 0 to 1
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile should be within [0, 1], but was " + percentile);
+        }
+        var total = 0L;
+        var counts = new long[BUCKETS];
+        for (var i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        var rank = Math.max(1, (long) Math.ceil(percentile * total));
+        var seen = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    static int index(long value) {
+        if (value < 2) {
+            return (int) value;
+        }
+        var shift = 63 - Long.numberOfLeadingZeros(value) - 1;
+        return (shift << 1) + (int) (value >>> shift);
+    }
+
+    static long upperBound(int index) {
+        if (index < 2) {
+            return index;
+        }
+        var shift = (index >>> 1) - 1;
+        var mantissa = (index & 1) + 2L;
+        return index == BUCKETS - 1 ? Long.MAX_VALUE : ((mantissa + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,24 @@
+package xyz.ressor.metrics;
+
+/**
+ * The outcome of a single attempt to reload the service.
+ */
+public enum ReloadOutcome {
+    /**
+     * The new service instance was published.
+     */
+    CHANGED,
+    /**
+     * The resource wasn't modified since the latest reload, or its content turned out to be the same.
+     */
+    NOT_MODIFIED,
+    /**
+     * The reload didn't happen, since the service was already reloading, reload actions didn't allow it, or an
+     * instance built by a later reload was published first.
+     */
+    SKIPPED,
+    /**
+     * Loading, translating or creating the service instance failed.
+     */
+    ERROR
+}
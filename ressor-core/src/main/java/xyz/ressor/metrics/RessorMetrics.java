@@ -0,0 +1,94 @@
+package xyz.ressor.metrics;
+
+import xyz.ressor.loader.PollingManager;
+import xyz.ressor.service.RessorService;
+import xyz.ressor.service.proxy.RessorServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * The registry of the reload statistics of all the services created by a single {@link xyz.ressor.Ressor} instance.
+ * <p/>
+ * Services are referenced weakly, so their statistics disappear once they are garbage collected.
+ */
+public class RessorMetrics {
+    private final Map<RessorServiceImpl<?, ?>, ServiceMetrics> services = Collections.synchronizedMap(new WeakHashMap<>());
+    private final List<Consumer<ServiceMetrics>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService threadPool;
+    private final PollingManager pollingManager;
+
+    public RessorMetrics() {
+        this(null, null);
+    }
+
+    public RessorMetrics(ExecutorService threadPool, PollingManager pollingManager) {
+        this.threadPool = threadPool;
+        this.pollingManager = pollingManager;
+    }
+
+    public void register(RessorService<?> service) {
+        var impl = (RessorServiceImpl<?, ?>) service.unwrap();
+        services.put(impl, impl.metrics());
+        for (var listener : listeners) {
+            listener.accept(impl.metrics());
+        }
+    }
+
+    /**
+     * Notifies the given listener about every service registered from now on.
+     */
+    public void onRegister(Consumer<ServiceMetrics> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the statistics of the given service.
+     *
+     * @param service Ressor service proxy instance
+     */
+    public ServiceMetrics of(Object service) {
+        if (service instanceof RessorService) {
+            return ((RessorServiceImpl<?, ?>) ((RessorService<?>) service).unwrap()).metrics();
+        } else {
+            throw new IllegalArgumentException("Provided service is not generated with Ressor");
+        }
+    }
+
+    /**
+     * The statistics of all the registered services, which are still alive.
+     */
+    public List<ServiceMetrics> services() {
+        synchronized (services) {
+            return new ArrayList<>(services.values());
+        }
+    }
+
+    /**
+     * The thread pool running the reloads, see {@link xyz.ressor.config.RessorConfig#threadPool()}.
+     */
+    public ExecutorService threadPool() {
+        return threadPool;
+    }
+
+    /**
+     * The amount of the polling threads, or -1 if unknown.
+     */
+    public int pollingThreads() {
+        return pollingManager == null ? -1 : pollingManager.poolSize();
+    }
+
+    /**
+     * The amount of the polling jobs running right now, or -1 if unknown.
+     */
+    public int activePolls() {
+        return pollingManager == null ? -1 : pollingManager.activeJobs();
+    }
+
+}
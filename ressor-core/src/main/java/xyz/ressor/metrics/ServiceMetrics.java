@@ -0,0 +1,168 @@
+package xyz.ressor.metrics;
+
+import xyz.ressor.source.ResourceId;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Reload statistics of a single service. Durations are recorded in nanoseconds.
+ */
+public class ServiceMetrics {
+    private static final ReloadOutcome[] OUTCOMES = ReloadOutcome.values();
+    private final WeakReference<Object> service;
+    private final Class<?> type;
+    private final ResourceId resourceId;
+    private final Histogram reloadTime = new Histogram();
+    private final Histogram loadTime = new Histogram();
+    private final Histogram bytesRead = new Histogram();
+    private final Histogram translateTime = new Histogram();
+    private final Histogram factoryTime = new Histogram();
+    private final Histogram swapTime = new Histogram();
+    private final AtomicLongArray outcomes = new AtomicLongArray(OUTCOMES.length);
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicInteger reloadsInProgress = new AtomicInteger();
+    private volatile ReloadOutcome lastOutcome;
+    private volatile long publishedAt = -1;
+
+    /**
+     * @param service the service these statistics belong to, referenced weakly
+     */
+    public ServiceMetrics(Object service, Class<?> type, ResourceId resourceId) {
+        this.service = new WeakReference<>(service);
+        this.type = type;
+        this.resourceId = resourceId;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public ResourceId resourceId() {
+        return resourceId;
+    }
+
+    /**
+     * Whether the service is still alive, so that the aggregated statistics can drop the garbage collected ones.
+     */
+    public boolean isAlive() {
+        return service.get() != null;
+    }
+
+    /**
+     * The service these statistics belong to, or <b>null</b> if it was garbage collected.
+     */
+    public Object service() {
+        return service.get();
+    }
+
+    /**
+     * Time spent by the whole reload, from loading the resource to publishing the new instance.
+     */
+    public Histogram reloadTime() {
+        return reloadTime;
+    }
+
+    /**
+     * Time spent loading the resource from the source, including the checks which found it not modified.
+     */
+    public Histogram loadTime() {
+        return loadTime;
+    }
+
+    /**
+     * Amount of the resource bytes consumed by a single reload.
+     */
+    public Histogram bytesRead() {
+        return bytesRead;
+    }
+
+    public Histogram translateTime() {
+        return translateTime;
+    }
+
+    /**
+     * Time spent creating the service instance by its factory (or incremental factory).
+     */
+    public Histogram factoryTime() {
+        return factoryTime;
+    }
+
+    /**
+     * Time spent publishing the new instance, including waiting for the publication lock.
+     */
+    public Histogram swapTime() {
+        return swapTime;
+    }
+
+    public long count(ReloadOutcome outcome) {
+        return outcomes.get(outcome.ordinal());
+    }
+
+    /**
+     * Total amount of the reload attempts, regardless of the outcome.
+     */
+    public long reloads() {
+        var result = 0L;
+        for (var outcome : OUTCOMES) {
+            result += count(outcome);
+        }
+        return result;
+    }
+
+    /**
+     * Total amount of the polling trigger firings.
+     */
+    public long polls() {
+        return polls.get();
+    }
+
+    /**
+     * Amount of the reloads running right now.
+     */
+    public int reloadsInProgress() {
+        return reloadsInProgress.get();
+    }
+
+    public ReloadOutcome lastOutcome() {
+        return lastOutcome;
+    }
+
+    /**
+     * Milliseconds passed since the current service instance was published, or -1 if none was published yet.
+     */
+    public long versionAgeMillis() {
+        var at = publishedAt;
+        return at < 0 ? -1 : System.currentTimeMillis() - at;
+    }
+
+    public void recordOutcome(ReloadOutcome outcome) {
+        outcomes.incrementAndGet(outcome.ordinal());
+        lastOutcome = outcome;
+    }
+
+    public void recordPoll() {
+        polls.incrementAndGet();
+    }
+
+    public void reloadStarted() {
+        reloadsInProgress.incrementAndGet();
+    }
+
+    public void reloadFinished() {
+        reloadsInProgress.decrementAndGet();
+    }
+
+    public void recordPublished() {
+        publishedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceMetrics{type=" + type.getName() + ", resource=" + resourceId + ", reloads=" + reloads() +
+                ", lastOutcome=" + lastOutcome + "}";
+    }
+
+}
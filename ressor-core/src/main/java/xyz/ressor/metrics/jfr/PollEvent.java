@@ -0,0 +1,22 @@
+package xyz.ressor.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Firing of the polling trigger of a service, which only schedules the reload.
+ */
+@Name("xyz.ressor.Poll")
+@Label("Service Poll")
+@Description("Polling trigger firing, which schedules the service reload")
+public class PollEvent extends ServiceEvent {
+    @Label("Expired")
+    @Description("Whether the service or its source was garbage collected, so the polling is cancelled")
+    boolean expired;
+
+    public void expired(boolean expired) {
+        this.expired = expired;
+    }
+
+}
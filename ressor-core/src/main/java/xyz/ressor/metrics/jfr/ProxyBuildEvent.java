@@ -0,0 +1,25 @@
+package xyz.ressor.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Creation of the service proxy, including the generation of its class if required.
+ */
+@Name("xyz.ressor.ProxyBuild")
+@Label("Proxy Build")
+@Description("Creation of the service proxy instance, along with its class if needed")
+public class ProxyBuildEvent extends ServiceEvent {
+    @Label("Proxy Class")
+    Class<?> proxyClass;
+    @Label("Class Origin")
+    @Description("Whether the proxy class was pregenerated at compile time, taken from the cache (generated on a miss) or generated")
+    String classOrigin;
+
+    public void proxyClass(Class<?> proxyClass, String classOrigin) {
+        this.proxyClass = proxyClass;
+        this.classOrigin = classOrigin;
+    }
+
+}
@@ -0,0 +1,79 @@
+package xyz.ressor.metrics.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import xyz.ressor.metrics.Histogram;
+import xyz.ressor.metrics.ServiceMetrics;
+
+/**
+ * A single service reload attempt, from loading the resource to publishing the new instance.
+ * <p/>
+ * The phases are taken from the {@link ServiceMetrics} of the service, which is safe since the reloads of a service are
+ * never run concurrently by the {@link xyz.ressor.service.ServiceManager}.
+ */
+@Name("xyz.ressor.Reload")
+@Label("Service Reload")
+@Description("Loading the resource and creating the new service instance from it")
+public class ReloadEvent extends ServiceEvent {
+    @Label("Forced")
+    boolean forced;
+    @Label("Outcome")
+    String outcome;
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+    @Label("Load Time")
+    @Timespan
+    long loadTime;
+    @Label("Translate Time")
+    @Timespan
+    long translateTime;
+    @Label("Factory Time")
+    @Timespan
+    long factoryTime;
+    @Label("Swap Time")
+    @Timespan
+    long swapTime;
+    private transient long reloads;
+    private transient long loads;
+    private transient long reads;
+    private transient long translates;
+    private transient long factories;
+    private transient long swaps;
+
+    public void forced(boolean forced) {
+        this.forced = forced;
+    }
+
+    /**
+     * Remembers the state of the statistics before the reload, see {@link #complete(ServiceMetrics)}.
+     */
+    public void track(ServiceMetrics metrics) {
+        reloads = metrics.reloads();
+        loads = metrics.loadTime().count();
+        reads = metrics.bytesRead().count();
+        translates = metrics.translateTime().count();
+        factories = metrics.factoryTime().count();
+        swaps = metrics.swapTime().count();
+    }
+
+    /**
+     * Fills the outcome and the phases recorded since {@link #track(ServiceMetrics)}.
+     */
+    public void complete(ServiceMetrics metrics) {
+        outcome = metrics.reloads() > reloads && metrics.lastOutcome() != null ? metrics.lastOutcome().name() : null;
+        loadTime = recent(metrics.loadTime(), loads);
+        bytesRead = recent(metrics.bytesRead(), reads);
+        translateTime = recent(metrics.translateTime(), translates);
+        factoryTime = recent(metrics.factoryTime(), factories);
+        swapTime = recent(metrics.swapTime(), swaps);
+    }
+
+    private static long recent(Histogram histogram, long countBefore) {
+        return histogram.count() > countBefore ? histogram.last() : 0;
+    }
+
+}
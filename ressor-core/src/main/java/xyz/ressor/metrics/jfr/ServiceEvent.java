@@ -0,0 +1,37 @@
+package xyz.ressor.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import xyz.ressor.service.RessorService;
+import xyz.ressor.source.ResourceId;
+import xyz.ressor.source.Source;
+
+/**
+ * The base of the JDK Flight Recorder events related to a single service.
+ * <p/>
+ * Events cost nearly nothing while they are not recorded, but the fields should still be filled only if
+ * {@link #isEnabled()}, since describing the service and its source allocates.
+ */
+@Category("Ressor")
+@StackTrace(false)
+public abstract class ServiceEvent extends Event {
+    @Label("Service Type")
+    Class<?> serviceType;
+    @Label("Resource")
+    String resource;
+    @Label("Source")
+    String source;
+
+    public void describe(Class<?> serviceType, ResourceId resource, Source source) {
+        this.serviceType = serviceType;
+        this.resource = resource == null ? null : resource.toString();
+        this.source = source == null ? null : source.describe();
+    }
+
+    public void describe(RessorService<?> service, Source source) {
+        describe(service.underlyingType(), service.getResourceId(), source);
+    }
+
+}
@@ -0,0 +1,14 @@
+package xyz.ressor.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The change notification received from a listened source, which schedules the service reload.
+ */
+@Name("xyz.ressor.SourceChange")
+@Label("Source Change")
+@Description("Change notification of a listened source, which schedules the service reload")
+public class SourceChangeEvent extends ServiceEvent {
+}
@@ -0,0 +1,131 @@
+package xyz.ressor.metrics.jmx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.ressor.Ressor;
+import xyz.ressor.metrics.RessorMetrics;
+import xyz.ressor.metrics.ServiceMetrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registers the {@link RessorMXBean} of the Ressor instance and the {@link ServiceMXBean} of every service created by
+ * it in the platform MBean server, see {@link xyz.ressor.config.RessorConfig#jmxEnabled(boolean)}.
+ * <p/>
+ * The beans of the garbage collected services are unregistered lazily, once the next service is created.
+ */
+public class RessorJmx implements RessorMXBean {
+    private static final Logger log = LoggerFactory.getLogger(RessorJmx.class);
+    static final String DOMAIN = "xyz.ressor";
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private final Map<ObjectName, ServiceBean> services = new LinkedHashMap<>();
+    private final AtomicInteger serviceSequence = new AtomicInteger();
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final String name = "ressor-" + SEQUENCE.incrementAndGet();
+    private final Ressor ressor;
+    private final RessorMetrics metrics;
+    private ObjectName objectName;
+
+    public RessorJmx(Ressor ressor, RessorMetrics metrics) {
+        this.ressor = ressor;
+        this.metrics = metrics;
+    }
+
+    public RessorJmx register() {
+        try {
+            objectName = new ObjectName(DOMAIN + ":type=Ressor,name=" + name);
+            server.registerMBean(this, objectName);
+        } catch (JMException e) {
+            log.warn("Unable to register Ressor MBean: {}", e.getMessage(), e);
+        }
+        metrics.onRegister(this::register);
+        return this;
+    }
+
+    /**
+     * Unregisters all the beans of this Ressor instance.
+     */
+    public synchronized void unregister() {
+        if (objectName != null) {
+            unregister(objectName);
+            objectName = null;
+        }
+        services.keySet().forEach(this::unregister);
+        services.clear();
+    }
+
+    /**
+     * The name of this Ressor instance, which is part of the names of all its beans.
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public ObjectName objectName() {
+        return objectName;
+    }
+
+    @Override
+    public int getServiceCount() {
+        return metrics.services().size();
+    }
+
+    @Override
+    public int getActiveReloads() {
+        var result = 0;
+        for (var service : metrics.services()) {
+            result += service.reloadsInProgress();
+        }
+        return result;
+    }
+
+    @Override
+    public int getPollingThreads() {
+        return metrics.pollingThreads();
+    }
+
+    @Override
+    public int getActivePolls() {
+        return metrics.activePolls();
+    }
+
+    private synchronized void register(ServiceMetrics serviceMetrics) {
+        pruneDead();
+        try {
+            var name = new ObjectName(DOMAIN + ":type=Service,ressor=" + this.name + ",service=" +
+                    serviceMetrics.type().getName() + ",id=" + serviceSequence.incrementAndGet());
+            var bean = new ServiceBean(serviceMetrics, ressor);
+            server.registerMBean(bean, name);
+            services.put(name, bean);
+        } catch (JMException e) {
+            log.warn("Unable to register MBean of the service {}: {}", serviceMetrics.type().getName(), e.getMessage(), e);
+        }
+    }
+
+    private void pruneDead() {
+        var it = services.entrySet().iterator();
+        while (it.hasNext()) {
+            var e = it.next();
+            if (!e.getValue().metrics().isAlive()) {
+                unregister(e.getKey());
+                it.remove();
+            }
+        }
+    }
+
+    private void unregister(ObjectName name) {
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            log.debug("Unable to unregister MBean {}: {}", name, e.getMessage());
+        }
+    }
+
+}
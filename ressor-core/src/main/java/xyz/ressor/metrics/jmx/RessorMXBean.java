@@ -0,0 +1,25 @@
+package xyz.ressor.metrics.jmx;
+
+/**
+ * The management interface of a single {@link xyz.ressor.Ressor} instance, registered as
+ * <code>xyz.ressor:type=Ressor,name=&lt;name&gt;</code>.
+ */
+public interface RessorMXBean {
+
+    String getName();
+
+    /**
+     * Amount of the services created by this Ressor instance, which are still alive.
+     */
+    int getServiceCount();
+
+    /**
+     * Amount of the reloads of all the services running right now.
+     */
+    int getActiveReloads();
+
+    int getPollingThreads();
+
+    int getActivePolls();
+
+}
@@ -0,0 +1,173 @@
+package xyz.ressor.metrics.jmx;
+
+import xyz.ressor.Ressor;
+import xyz.ressor.loader.ListeningServiceLoader;
+import xyz.ressor.loader.PollingServiceLoader;
+import xyz.ressor.metrics.ReloadOutcome;
+import xyz.ressor.metrics.ServiceMetrics;
+import xyz.ressor.service.proxy.RessorServiceImpl;
+import xyz.ressor.source.Source;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static xyz.ressor.service.proxy.StateVariables.LOADER;
+import static xyz.ressor.service.proxy.StateVariables.SOURCE;
+
+class ServiceBean implements ServiceMXBean {
+    private static final double NANOS_IN_MILLI = 1_000_000d;
+    private final ServiceMetrics metrics;
+    private final Ressor ressor;
+
+    ServiceBean(ServiceMetrics metrics, Ressor ressor) {
+        this.metrics = metrics;
+        this.ressor = ressor;
+    }
+
+    ServiceMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public String getServiceType() {
+        return metrics.type().getName();
+    }
+
+    @Override
+    public String getResource() {
+        return Objects.toString(metrics.resourceId(), null);
+    }
+
+    @Override
+    public String getSource() {
+        var service = (RessorServiceImpl<?, ?>) metrics.service();
+        var source = service == null ? null : (Source) service.state(SOURCE);
+        return source == null ? null : source.describe();
+    }
+
+    @Override
+    public String getLatestVersion() {
+        var service = (RessorServiceImpl<?, ?>) metrics.service();
+        var version = service == null ? null : service.latestVersion();
+        return version == null ? null : Objects.toString(version.val(), null);
+    }
+
+    @Override
+    public double getLastReloadMillis() {
+        return metrics.reloadTime().last() / NANOS_IN_MILLI;
+    }
+
+    @Override
+    public double getMeanReloadMillis() {
+        return metrics.reloadTime().mean() / NANOS_IN_MILLI;
+    }
+
+    @Override
+    public long getReloadCount() {
+        return metrics.reloads();
+    }
+
+    @Override
+    public long getChangedCount() {
+        return metrics.count(ReloadOutcome.CHANGED);
+    }
+
+    @Override
+    public long getFailureCount() {
+        return metrics.count(ReloadOutcome.ERROR);
+    }
+
+    @Override
+    public long getPollCount() {
+        return metrics.polls();
+    }
+
+    @Override
+    public String getLastOutcome() {
+        var outcome = metrics.lastOutcome();
+        return outcome == null ? null : outcome.name();
+    }
+
+    @Override
+    public long getVersionAgeSeconds() {
+        var age = metrics.versionAgeMillis();
+        return age < 0 ? -1 : age / 1000;
+    }
+
+    @Override
+    public String getLoadingMode() {
+        var loader = loader();
+        if (loader instanceof PollingServiceLoader) {
+            return "polling";
+        } else if (loader instanceof ListeningServiceLoader) {
+            return "listening";
+        } else {
+            return "none";
+        }
+    }
+
+    @Override
+    public long getPollIntervalMillis() {
+        var loader = loader();
+        if (loader instanceof PollingServiceLoader) {
+            var interval = ((PollingServiceLoader) loader).interval();
+            return interval == null ? -1 : interval.toMillis();
+        }
+        return -1;
+    }
+
+    @Override
+    public String getPollCron() {
+        var loader = loader();
+        return loader instanceof PollingServiceLoader ? ((PollingServiceLoader) loader).expression() : null;
+    }
+
+    @Override
+    public void reload() {
+        ressor.reload(service());
+    }
+
+    @Override
+    public void scheduleReload() {
+        ressor.scheduleReload(service());
+    }
+
+    @Override
+    public void pollEvery(long millis) {
+        if (millis <= 0 || millis > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Polling interval should be within (0, " + Integer.MAX_VALUE +
+                    "] milliseconds, but was " + millis);
+        }
+        ressor.poll(service()).every((int) millis, MILLISECONDS);
+    }
+
+    @Override
+    public void pollAdaptive(long minMillis, long maxMillis) {
+        ressor.poll(service()).adaptive(Duration.ofMillis(minMillis), Duration.ofMillis(maxMillis));
+    }
+
+    @Override
+    public void pollCron(String expression) {
+        ressor.poll(service()).cron(expression);
+    }
+
+    @Override
+    public void stop() {
+        ressor.stop(service());
+    }
+
+    private Object loader() {
+        var service = (RessorServiceImpl<?, ?>) metrics.service();
+        return service == null ? null : service.state(LOADER);
+    }
+
+    private Object service() {
+        var service = metrics.service();
+        if (service == null) {
+            throw new IllegalStateException("The service " + metrics.type().getName() + " is already garbage collected");
+        }
+        return service;
+    }
+
+}
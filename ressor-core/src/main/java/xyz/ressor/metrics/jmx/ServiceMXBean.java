@@ -0,0 +1,91 @@
+package xyz.ressor.metrics.jmx;
+
+/**
+ * The management interface of a single Ressor service, registered as
+ * <code>xyz.ressor:type=Service,ressor=&lt;ressor name&gt;,service=&lt;service type&gt;,id=&lt;n&gt;</code>.
+ * <p/>
+ * The statistics are the same as provided by {@link xyz.ressor.metrics.ServiceMetrics}.
+ */
+public interface ServiceMXBean {
+
+    String getServiceType();
+
+    String getResource();
+
+    String getSource();
+
+    /**
+     * The latest resource version, which the service is aware of.
+     */
+    String getLatestVersion();
+
+    /**
+     * Duration of the last reload in milliseconds, including loading of the resource.
+     */
+    double getLastReloadMillis();
+
+    double getMeanReloadMillis();
+
+    long getReloadCount();
+
+    long getChangedCount();
+
+    long getFailureCount();
+
+    long getPollCount();
+
+    String getLastOutcome();
+
+    /**
+     * Seconds passed since the current service instance was published, or -1 if none was published yet.
+     */
+    long getVersionAgeSeconds();
+
+    /**
+     * How the service detects the resource changes: <i>polling</i>, <i>listening</i> or <i>none</i>.
+     */
+    String getLoadingMode();
+
+    /**
+     * The polling interval in milliseconds, or -1 if the service isn't polling by interval. For the adaptive polling,
+     * it's the current interval.
+     */
+    long getPollIntervalMillis();
+
+    /**
+     * The polling cron expression, or <b>null</b> if the service isn't polling by cron schedule.
+     */
+    String getPollCron();
+
+    /**
+     * Forces the service reload and waits for its completion.
+     */
+    void reload();
+
+    /**
+     * Schedules the service reload, without waiting for its completion.
+     */
+    void scheduleReload();
+
+    /**
+     * Starts polling the service source with the given interval, replacing the current polling or listening.
+     */
+    void pollEvery(long millis);
+
+    /**
+     * Starts polling the service source with the adaptive interval, replacing the current polling or listening, see
+     * {@link xyz.ressor.PollingBuilder#adaptive(java.time.Duration, java.time.Duration)}.
+     */
+    void pollAdaptive(long minMillis, long maxMillis);
+
+    /**
+     * Starts polling the service source by the given cron schedule, replacing the current polling or listening.
+     */
+    void pollCron(String expression);
+
+    /**
+     * Stops polling or listening of the service source.
+     */
+    void stop();
+
+}
@@ -0,0 +1,87 @@
+package xyz.ressor.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The keyed difference between the data of the previous and the current service reload, which is passed to the
+ * incremental service factory.
+ * <p/>
+ * Elements are compared with {@link Object#equals(Object)}, so the element types should implement it by value.
+ *
+ * @param <K> element key type
+ * @param <V> element type
+ */
+public class Delta<K, V> {
+    private final Map<K, V> current;
+    private final Map<K, V> added;
+    private final Map<K, V> removed;
+    private final Map<K, V> changed;
+
+    private Delta(Map<K, V> current, Map<K, V> added, Map<K, V> removed, Map<K, V> changed) {
+        this.current = current;
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    public static <K, V> Delta<K, V> between(Map<K, V> previous, Map<K, V> current) {
+        var added = new LinkedHashMap<K, V>();
+        var removed = new LinkedHashMap<K, V>();
+        var changed = new LinkedHashMap<K, V>();
+        for (var e : current.entrySet()) {
+            if (!previous.containsKey(e.getKey())) {
+                added.put(e.getKey(), e.getValue());
+            } else if (!Objects.equals(previous.get(e.getKey()), e.getValue())) {
+                changed.put(e.getKey(), e.getValue());
+            }
+        }
+        for (var e : previous.entrySet()) {
+            if (!current.containsKey(e.getKey())) {
+                removed.put(e.getKey(), e.getValue());
+            }
+        }
+        return new Delta<>(Collections.unmodifiableMap(current), Collections.unmodifiableMap(added),
+                Collections.unmodifiableMap(removed), Collections.unmodifiableMap(changed));
+    }
+
+    /**
+     * All the elements of the current reload.
+     */
+    public Map<K, V> current() {
+        return current;
+    }
+
+    /**
+     * Elements, which keys were absent in the previous reload.
+     */
+    public Map<K, V> added() {
+        return added;
+    }
+
+    /**
+     * Elements of the previous reload, which keys are absent in the current one.
+     */
+    public Map<K, V> removed() {
+        return removed;
+    }
+
+    /**
+     * The new values of the elements, which are present in both reloads, but are not equal.
+     */
+    public Map<K, V> changed() {
+        return changed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Delta{added=" + added.keySet() + ", removed=" + removed.keySet() + ", changed=" + changed.keySet() + "}";
+    }
+
+}
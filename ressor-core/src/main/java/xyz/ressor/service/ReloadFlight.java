@@ -0,0 +1,75 @@
+package xyz.ressor.service;
+
+import xyz.ressor.source.Source;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Single-flight state of the service reloads. While a reload is running, at most one follow-up reload is queued and
+ * shared by all the concurrent callers. The follow-up loads the resource only when it starts, so it always observes
+ * the latest resource version.
+ */
+class ReloadFlight {
+    private boolean running;
+    private Thread owner;
+    private CompletableFuture<Boolean> queued;
+    private Source queuedSource;
+    private boolean queuedForce;
+
+    /**
+     * Either acquires the flight, in which case returns null and the caller is responsible to run the reload, or joins
+     * the queued follow-up reload, returning its result future.
+     */
+    synchronized CompletableFuture<Boolean> join(Source source, boolean isForce) {
+        if (!running) {
+            running = true;
+            return null;
+        }
+        if (queued == null) {
+            queued = new CompletableFuture<>();
+            queuedForce = isForce;
+        } else {
+            queuedForce |= isForce;
+        }
+        queuedSource = source;
+        return queued;
+    }
+
+    /**
+     * Releases the flight after the reload completion, returning the follow-up reload to be run next if any, in which
+     * case the flight stays acquired.
+     */
+    synchronized FollowUp release() {
+        owner = null;
+        if (queued == null) {
+            running = false;
+            return null;
+        }
+        var followUp = new FollowUp(queued, queuedSource, queuedForce);
+        queued = null;
+        queuedSource = null;
+        queuedForce = false;
+        return followUp;
+    }
+
+    synchronized void own() {
+        owner = Thread.currentThread();
+    }
+
+    synchronized boolean isOwnedByCurrentThread() {
+        return owner == Thread.currentThread();
+    }
+
+    static class FollowUp {
+        final CompletableFuture<Boolean> result;
+        final Source source;
+        final boolean isForce;
+
+        FollowUp(CompletableFuture<Boolean> result, Source source, boolean isForce) {
+            this.result = result;
+            this.source = source;
+            this.isForce = isForce;
+        }
+    }
+
+}
@@ -2,17 +2,49 @@ package xyz.ressor.service;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.ressor.commons.utils.Exceptions;
 import xyz.ressor.config.RessorConfig;
+import xyz.ressor.metrics.RessorMetrics;
+import xyz.ressor.metrics.ServiceMetrics;
+import xyz.ressor.metrics.jfr.ReloadEvent;
+import xyz.ressor.service.proxy.RessorServiceImpl;
 import xyz.ressor.source.LoadedResource;
 import xyz.ressor.source.Source;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
+import static xyz.ressor.metrics.ReloadOutcome.ERROR;
+import static xyz.ressor.metrics.ReloadOutcome.NOT_MODIFIED;
+import static xyz.ressor.metrics.ReloadOutcome.SKIPPED;
+import static xyz.ressor.service.proxy.StateVariables.RELOAD_FLIGHT;
+
+/**
+ * Runs the service reloads, coalescing the concurrent ones: while a service is reloading, further requests share a
+ * single follow-up reload, instead of being dropped or loading the resource in vain.
+ * <p/>
+ * Forced synchronous reloads are not coalesced, they run at once, building the instance alongside the reload in
+ * flight, and the service itself makes sure the instance of the earlier started reload doesn't replace the later one.
+ */
 public class ServiceManager {
+    private static final Logger log = LoggerFactory.getLogger(ServiceManager.class);
     private final RessorConfig config;
+    private final RessorMetrics metrics;
 
     public ServiceManager(RessorConfig config) {
+        this(config, new RessorMetrics());
+    }
+
+    public ServiceManager(RessorConfig config, RessorMetrics metrics) {
         this.config = config;
+        this.metrics = metrics;
+    }
+
+    public RessorMetrics metrics() {
+        return metrics;
     }
 
     public boolean tryReload(RessorService service, Source source) {
@@ -33,22 +65,102 @@ public class ServiceManager {
 
     @NotNull
     private CompletableFuture<Boolean> doReloadAsync(RessorService service, Source source, boolean isForce) {
-        final var result = new CompletableFuture<Boolean>();
-        config.threadPool().submit(() -> {
+        var flight = flight(service);
+        var queued = flight.join(source, isForce);
+        if (queued == null) {
+            var result = new CompletableFuture<Boolean>();
+            submit(flight, service, result, source, isForce);
+            return result;
+        } else {
+            return queued;
+        }
+    }
+
+    private boolean doReload(RessorService service, Source source, boolean isForce) {
+        if (isForce) {
+            return reloadNow(service, source, true);
+        }
+        var flight = flight(service);
+        var queued = flight.join(source, isForce);
+        if (queued == null) {
+            return runFlight(flight, service, source, isForce);
+        } else if (flight.isOwnedByCurrentThread()) {
+            log.debug("Service {} reload was requested while reloading in the same thread, it will be reloaded right after", service.underlyingType());
+            return false;
+        } else {
             try {
-                result.complete(doReload(service, source, isForce));
-            } catch (Throwable t) {
-                result.completeExceptionally(t);
+                return queued.join();
+            } catch (CompletionException e) {
+                throw Exceptions.wrap(e.getCause());
             }
-        });
-        return result;
+        }
     }
 
-    private boolean doReload(RessorService service, Source source, boolean isForce) {
-        var resource = loadResourceFromSource(service, source, isForce);
+    private boolean runFlight(ReloadFlight flight, RessorService service, Source source, boolean isForce) {
+        flight.own();
+        try {
+            return reloadNow(service, source, isForce);
+        } finally {
+            releaseFlight(flight, service);
+        }
+    }
+
+    private void releaseFlight(ReloadFlight flight, RessorService service) {
+        var followUp = flight.release();
+        if (followUp != null) {
+            submit(flight, service, followUp.result, followUp.source, followUp.isForce);
+        }
+    }
+
+    private void submit(ReloadFlight flight, RessorService service, CompletableFuture<Boolean> result, Source source,
+                        boolean isForce) {
+        try {
+            config.threadPool().submit(() -> {
+                try {
+                    result.complete(runFlight(flight, service, source, isForce));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            releaseFlight(flight, service);
+        }
+    }
+
+    private boolean reloadNow(RessorService service, Source source, boolean isForce) {
+        var metrics = metrics(service);
+        var event = new ReloadEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            event.describe(service, source);
+            event.forced(isForce);
+            event.track(metrics);
+        }
+        metrics.reloadStarted();
+        var start = System.nanoTime();
+        try {
+            return reloadResource(service, source, isForce, metrics);
+        } finally {
+            metrics.reloadTime().record(System.nanoTime() - start);
+            metrics.reloadFinished();
+            event.end();
+            if (event.shouldCommit()) {
+                event.complete(metrics);
+                event.commit();
+            }
+        }
+    }
+
+    private boolean reloadResource(RessorService service, Source source, boolean isForce, ServiceMetrics metrics) {
+        var resource = loadResourceFromSource(service, source, isForce, metrics);
+        if (resource == null) {
+            return false;
+        }
         try {
             return service.reload(resource, isForce);
         } catch (Throwable t) {
+            metrics.recordOutcome(ERROR);
             if (service.errorHandler() != null) {
                 service.errorHandler().onTranslateFailed(t, resource, service.safeInstance());
                 return false;
@@ -58,16 +170,36 @@ public class ServiceManager {
         }
     }
 
+    private ReloadFlight flight(RessorService service) {
+        return ((RessorServiceImpl<?, ?>) service.unwrap()).stateIfAbsent(RELOAD_FLIGHT, k -> new ReloadFlight());
+    }
+
+    private ServiceMetrics metrics(RessorService service) {
+        return ((RessorServiceImpl<?, ?>) service.unwrap()).metrics();
+    }
+
     @Nullable
-    private LoadedResource loadResourceFromSource(RessorService service, Source source, boolean isForce) {
+    private LoadedResource loadResourceFromSource(RessorService service, Source source, boolean isForce,
+                                                  ServiceMetrics metrics) {
+        if (!isForce && service.isReloading()) {
+            metrics.recordOutcome(SKIPPED);
+            return null;
+        }
         LoadedResource resource = null;
+        var start = System.nanoTime();
         try {
             if (isForce) {
                 resource = source.load(service.getResourceId());
-            } else if (!service.isReloading()) {
+            } else {
                 resource = source.loadIfModified(service.getResourceId(), service.latestVersion());
             }
+            metrics.loadTime().record(System.nanoTime() - start);
+            if (resource == null) {
+                metrics.recordOutcome(NOT_MODIFIED);
+            }
         } catch (Throwable t) {
+            metrics.loadTime().record(System.nanoTime() - start);
+            metrics.recordOutcome(ERROR);
             if (service.errorHandler() != null) {
                 service.errorHandler().onSourceFailed(t, service.safeInstance());
             } else {
@@ -0,0 +1,90 @@
+package xyz.ressor.service;
+
+import xyz.ressor.service.proxy.RessorServiceImpl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A consistent set of the underlying instances of several Ressor services, pinned for the duration of some unit of work.
+ * <p/>
+ * The instances are read at once, so that no service is reloaded in the middle of taking the snapshot, and stay the same
+ * until the snapshot is closed, regardless of further reloads. They are plain objects of the service types, so calling
+ * them doesn't go through the proxy. If the service tracks the calls, its pinned instance is not retired until the
+ * snapshot is closed.
+ */
+public class ServiceSnapshot implements AutoCloseable {
+    private final Map<RessorService<?>, Object> instances;
+    private final List<RessorServiceImpl<?, ?>> services;
+    private final Object[] generations;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private ServiceSnapshot(Map<RessorService<?>, Object> instances, List<RessorServiceImpl<?, ?>> services,
+                            Object[] generations) {
+        this.instances = instances;
+        this.services = services;
+        this.generations = generations;
+    }
+
+    public static ServiceSnapshot of(Object... services) {
+        var ressorServices = new ArrayList<RessorServiceImpl<?, ?>>(services.length);
+        for (var service : services) {
+            ressorServices.add(unwrap(service));
+        }
+        var generations = RessorServiceImpl.pin(ressorServices);
+        var instances = new IdentityHashMap<RessorService<?>, Object>(services.length);
+        try {
+            for (var i = 0; i < generations.length; i++) {
+                var service = ressorServices.get(i);
+                instances.put(service, service.instance(generations[i]));
+            }
+        } catch (Throwable t) {
+            unpin(ressorServices, generations);
+            throw t;
+        }
+        return new ServiceSnapshot(instances, ressorServices, generations);
+    }
+
+    /**
+     * Returns the pinned underlying instance of the given service.
+     *
+     * @param service Ressor service proxy instance, which was pinned by this snapshot
+     * @param <T> service public type
+     * @return the underlying instance of the service
+     */
+    public <T> T get(T service) {
+        if (closed.get()) {
+            throw new IllegalStateException("The snapshot is already closed");
+        }
+        var instance = instances.get(unwrap(service));
+        if (instance == null) {
+            throw new IllegalArgumentException("Provided service is not pinned by this snapshot");
+        }
+        return (T) instance;
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            unpin(services, generations);
+        }
+    }
+
+    private static void unpin(List<RessorServiceImpl<?, ?>> services, Object[] generations) {
+        for (var i = 0; i < generations.length; i++) {
+            services.get(i).unpin(generations[i]);
+        }
+    }
+
+    private static RessorServiceImpl<?, ?> unwrap(Object service) {
+        if (service instanceof RessorService) {
+            return (RessorServiceImpl<?, ?>) ((RessorService<?>) service).unwrap();
+        } else {
+            throw new IllegalArgumentException("Provided service is not generated with Ressor");
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package xyz.ressor.service.proxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+
+/**
+ * Hashes the content while it's being read by the translator. Closing is ignored, since the translator may stop reading
+ * before the end of the stream, and the rest of the content should still be hashed.
+ */
+class ContentDigestInputStream extends DigestInputStream {
+
+    ContentDigestInputStream(InputStream stream, MessageDigest digest) {
+        super(stream, digest);
+    }
+
+    /**
+     * Reads the rest of the stream and returns the digest of the whole content.
+     */
+    byte[] digest() throws IOException {
+        transferTo(OutputStream.nullOutputStream());
+        return getMessageDigest().digest();
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
@@ -0,0 +1,46 @@
+package xyz.ressor.service.proxy;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes read by the translator, for the reload statistics.
+ */
+class CountingInputStream extends FilterInputStream {
+    private long count = 0;
+
+    CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    long count() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        var result = super.read();
+        if (result >= 0) {
+            count++;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        var result = super.read(b, off, len);
+        if (result > 0) {
+            count += result;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        var result = super.skip(n);
+        count += result;
+        return result;
+    }
+
+}
@@ -0,0 +1,18 @@
+package xyz.ressor.service.proxy;
+
+import net.bytebuddy.asm.Advice;
+
+/**
+ * Wraps the helper methods of the tracked proxy, which take the generation entered by the proxy method as the first
+ * argument, to exit it once the call is completed, see {@link RessorServiceImpl#enter()}. The code is inlined into the
+ * proxy class, so it can only use the public API.
+ */
+class InFlightAdvice {
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    static void exit(@Advice.FieldValue(ServiceProxyBuilder.RS_VAR) RessorServiceImpl<?, ?> rs,
+                     @Advice.Argument(0) Object generation) {
+        rs.exit(generation);
+    }
+
+}
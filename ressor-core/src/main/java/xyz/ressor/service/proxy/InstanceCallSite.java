@@ -0,0 +1,53 @@
+package xyz.ressor.service.proxy;
+
+import java.lang.invoke.*;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * The call site which is linked by the service proxy classes generated in constant dispatch mode, see
+ * {@link ProxyContext#isConstantDispatch()}.
+ * <p/>
+ * The target of the call site is bound to the current underlying instance of the service, so that JIT compiler can treat it
+ * as a constant between reloads. Every reload relinks the call site and invalidates the dependent compiled code,
+ * which makes the reload itself more expensive.
+ */
+public class InstanceCallSite extends MutableCallSite {
+    static final String CALL_SITE_VAR = "__$$cs";
+    private static final MethodHandle INSTANCE;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findVirtual(RessorServiceImpl.class, "instance", methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public InstanceCallSite(Class<?> type, RessorServiceImpl<?, ?> service) {
+        super(methodType(type));
+        setTarget(INSTANCE.bindTo(service).asType(type()));
+    }
+
+    /**
+     * Binds the call site to the new underlying instance.
+     */
+    public void update(Object instance) {
+        setTarget(MethodHandles.constant(type().returnType(), instance));
+        MutableCallSite.syncAll(new MutableCallSite[] { this });
+    }
+
+    /**
+     * Bootstrap method of the <b>invokedynamic</b> instructions in the generated proxy class. The call site is
+     * taken from the static field of the proxy class, which is initialized by {@link ServiceProxyBuilder}.
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type) throws Throwable {
+        var site = (InstanceCallSite) lookup.findStaticGetter(lookup.lookupClass(), CALL_SITE_VAR, InstanceCallSite.class).invoke();
+        if (site.type().equals(type)) {
+            return site;
+        } else {
+            return new ConstantCallSite(site.dynamicInvoker().asType(type));
+        }
+    }
+
+}
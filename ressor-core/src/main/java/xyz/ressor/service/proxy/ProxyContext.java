@@ -1,6 +1,7 @@
 package xyz.ressor.service.proxy;
 
 import xyz.ressor.ext.ServiceExtension;
+import xyz.ressor.service.Delta;
 import xyz.ressor.service.error.ErrorHandler;
 import xyz.ressor.source.ResourceId;
 import xyz.ressor.source.Source;
@@ -10,6 +11,8 @@ import java.io.InputStream;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class ProxyContext<T, D> {
@@ -18,32 +21,42 @@ public class ProxyContext<T, D> {
     private final ResourceId resource;
     private final Translator<InputStream, D> translator;
     private final Function<D, ? extends T> factory;
+    private final BiFunction<T, Delta<?, ?>, ? extends T> incrementalFactory;
     private final List<ServiceExtension> extensions;
     private final ClassLoader classLoader;
     private final T initialInstance;
     private final Object[] proxyDefaultArguments;
     private final ErrorHandler errorHandler;
     private final boolean proxyObjectClassMethods;
+    private final boolean constantDispatch;
+    private final String contentDigest;
+    private final Consumer<? super T> onRetire;
 
     public static <T, D> ProxyContextBuilder<T, D> builder(Class<T> type) {
         return new ProxyContextBuilder<>(type);
     }
 
     private ProxyContext(Class<T> type, Source source, ResourceId resource, Translator<InputStream, D> translator,
-                         Function<D, ? extends T> factory, List<ServiceExtension> extensions,
+                         Function<D, ? extends T> factory, BiFunction<T, Delta<?, ?>, ? extends T> incrementalFactory,
+                         List<ServiceExtension> extensions,
                          ClassLoader classLoader, T initialInstance, Object[] proxyDefaultArguments,
-                         ErrorHandler errorHandler, boolean proxyObjectClassMethods) {
+                         ErrorHandler errorHandler, boolean proxyObjectClassMethods, boolean constantDispatch,
+                         String contentDigest, Consumer<? super T> onRetire) {
         this.type = type;
         this.source = source;
         this.resource = resource;
         this.translator = translator;
         this.factory = factory;
+        this.incrementalFactory = incrementalFactory;
         this.extensions = extensions == null ? Collections.emptyList() : Collections.unmodifiableList(extensions);
         this.classLoader = classLoader;
         this.initialInstance = initialInstance;
         this.proxyDefaultArguments = proxyDefaultArguments;
         this.errorHandler = errorHandler;
         this.proxyObjectClassMethods = proxyObjectClassMethods;
+        this.constantDispatch = constantDispatch;
+        this.contentDigest = contentDigest;
+        this.onRetire = onRetire;
     }
 
     public Class<T> getType() {
@@ -66,6 +79,14 @@ public class ProxyContext<T, D> {
         return factory;
     }
 
+    /**
+     * The factory which creates the new instance from the previous one and the {@link Delta} of the data, if provided
+     * instead of the regular {@link #getFactory()}.
+     */
+    public BiFunction<T, Delta<?, ?>, ? extends T> getIncrementalFactory() {
+        return incrementalFactory;
+    }
+
     public List<ServiceExtension> getExtensions() {
         return extensions;
     }
@@ -90,18 +111,53 @@ public class ProxyContext<T, D> {
         return proxyObjectClassMethods;
     }
 
+    /**
+     * Whether the proxy should link its calls through the {@link InstanceCallSite} bound to the current underlying
+     * instance, instead of reading it on every call.
+     */
+    public boolean isConstantDispatch() {
+        return constantDispatch;
+    }
+
+    /**
+     * The name of the {@link java.security.MessageDigest} algorithm to hash the loaded content with, or <b>null</b>
+     * if the content deduplication is disabled.
+     */
+    public String getContentDigest() {
+        return contentDigest;
+    }
+
+    /**
+     * The hook receiving the replaced instances once all the proxy calls to them are completed, or <b>null</b> if the
+     * calls are not tracked.
+     */
+    public Consumer<? super T> getOnRetire() {
+        return onRetire;
+    }
+
+    /**
+     * Whether the proxy should count the calls in flight to each of the underlying instances.
+     */
+    public boolean isTrackInFlight() {
+        return onRetire != null;
+    }
+
     public static class ProxyContextBuilder<T, D> {
         private final Class<T> type;
         private Source source;
         private Translator<InputStream, D> translator;
         private ResourceId resource;
         private Function<D, ? extends T> factory;
+        private BiFunction<T, Delta<?, ?>, ? extends T> incrementalFactory;
         private List<ServiceExtension> extensions;
         private ClassLoader classLoader;
         private T initialInstance;
         private Object[] proxyDefaultArguments;
         private ErrorHandler errorHandler;
         private boolean proxyObjectClassMethods = true;
+        private boolean constantDispatch = false;
+        private String contentDigest;
+        private Consumer<? super T> onRetire;
 
         private ProxyContextBuilder(Class<T> type) {
             this.type = type;
@@ -127,6 +183,11 @@ public class ProxyContext<T, D> {
             return this;
         }
 
+        public ProxyContextBuilder<T, D> incrementalFactory(BiFunction<T, Delta<?, ?>, ? extends T> incrementalFactory) {
+            this.incrementalFactory = incrementalFactory;
+            return this;
+        }
+
         public ProxyContextBuilder<T, D> addExtension(ServiceExtension extension) {
             if (extensions == null) {
                 extensions = new LinkedList<>();
@@ -160,9 +221,25 @@ public class ProxyContext<T, D> {
             return this;
         }
 
+        public ProxyContextBuilder<T, D> constantDispatch(boolean value) {
+            this.constantDispatch = value;
+            return this;
+        }
+
+        public ProxyContextBuilder<T, D> contentDigest(String algorithm) {
+            this.contentDigest = algorithm;
+            return this;
+        }
+
+        public ProxyContextBuilder<T, D> onRetire(Consumer<? super T> onRetire) {
+            this.onRetire = onRetire;
+            return this;
+        }
+
         public ProxyContext<T, D> build() {
-            return new ProxyContext<>(type, source, resource, translator, factory, extensions, classLoader,
-                    initialInstance, proxyDefaultArguments, errorHandler, proxyObjectClassMethods);
+            return new ProxyContext<>(type, source, resource, translator, factory, incrementalFactory, extensions,
+                    classLoader, initialInstance, proxyDefaultArguments, errorHandler, proxyObjectClassMethods, constantDispatch,
+                    contentDigest, onRetire);
         }
     }
 }
@@ -2,40 +2,83 @@ package xyz.ressor.service.proxy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import xyz.ressor.commons.utils.Exceptions;
+import xyz.ressor.metrics.ServiceMetrics;
+import xyz.ressor.service.Delta;
 import xyz.ressor.service.ReloadAction;
 import xyz.ressor.service.RessorService;
 import xyz.ressor.service.error.ErrorHandler;
+import xyz.ressor.source.ByteBufferInputStream;
 import xyz.ressor.source.LoadedResource;
 import xyz.ressor.source.ResourceId;
 import xyz.ressor.source.SourceVersion;
+import xyz.ressor.translator.OffHeapPayload;
 import xyz.ressor.translator.Translator;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static xyz.ressor.commons.utils.RessorUtils.firstNonNull;
 import static xyz.ressor.commons.utils.RessorUtils.silentlyClose;
+import static xyz.ressor.metrics.ReloadOutcome.CHANGED;
+import static xyz.ressor.metrics.ReloadOutcome.NOT_MODIFIED;
+import static xyz.ressor.metrics.ReloadOutcome.SKIPPED;
 import static xyz.ressor.service.proxy.StateVariables.ACTIONS;
 
 public class RessorServiceImpl<T, D> implements RessorService<T> {
     private static final Logger log = LoggerFactory.getLogger(RessorServiceImpl.class);
+    /**
+     * Guards the publication of new instances across all the services, so that a set of them can be read consistently.
+     */
+    private static final StampedLock PUBLICATION_LOCK = new StampedLock();
     private final Function<D, ? extends T> factory;
+    private BiFunction<T, Delta<?, ?>, ? extends T> incrementalFactory;
     private final Translator<InputStream, D> translator;
     private final ErrorHandler errorHandler;
     private final Class<? extends T> type;
     private final T initialInstance;
     private final ResourceId resourceId;
     private final Map<Object, Object> state = new ConcurrentHashMap<>();
-    private final ReadWriteLock reloadLock = new ReentrantReadWriteLock();
-    private volatile T underlyingInstance;
+    private final ServiceMetrics metrics;
+    private final AtomicInteger reloadsInProgress = new AtomicInteger();
+    private final AtomicLong reloadTickets = new AtomicLong();
     private volatile SourceVersion latestVersion;
-    private volatile AtomicBoolean isReloading = new AtomicBoolean(false);
+    /**
+     * The ticket of the reload which built the current instance, guarded by {@link #PUBLICATION_LOCK}.
+     */
+    private volatile long publishedTicket;
+    private volatile String contentDigest;
+    private volatile byte[] latestDigest;
+    /**
+     * The data the current instance was created from, kept only for the incremental factory.
+     */
+    private Map<Object, Object> latestData;
+    private final Object incrementalLock = new Object();
+    private volatile InstanceCallSite callSite;
+    private Consumer<? super T> onRetire;
+    /**
+     * The generation of the current instance, which publishes the instance itself and, if the calls are tracked, counts
+     * the proxy calls to it.
+     */
+    private volatile Generation generation = new Generation(null, null, false);
+    /**
+     * The replaced generations which still have calls in flight.
+     */
+    private final List<Generation> retirements = new ArrayList<>();
 
     public RessorServiceImpl(Class<? extends T> type, Function<D, ? extends T> factory,
                              Translator<InputStream, D> translator, ErrorHandler errorHandler,
@@ -46,6 +89,7 @@ public class RessorServiceImpl<T, D> implements RessorService<T> {
         this.errorHandler = errorHandler;
         this.initialInstance = initialInstance;
         this.resourceId = resourceId;
+        this.metrics = new ServiceMetrics(this, type, resourceId);
     }
 
     @Override
@@ -60,13 +104,75 @@ public class RessorServiceImpl<T, D> implements RessorService<T> {
 
     @Override
     public T instance() {
-        var val = firstNonNull(underlyingInstance, initialInstance);
+        return instance(generation);
+    }
+
+    /**
+     * The instance of the generation returned by {@link #enter()}, which the tracked proxy call is dispatched to.
+     */
+    public T instance(Object generation) {
+        var val = firstNonNull((T) ((Generation) generation).instance, initialInstance);
         if (val == null) {
             throw new IllegalStateException("The service wasn't loaded yet, please provide service initial instance.");
         }
         return val;
     }
 
+    /**
+     * Pins the current generations of the given services, making sure none of them was switched in the middle of reading.
+     * If the calls are tracked, the pinned generations are not retired until {@link #unpin(Object)} is called for each
+     * of them, their instances are available with {@link #instance(Object)}.
+     *
+     * @return generations in the same order as services
+     */
+    public static Object[] pin(List<RessorServiceImpl<?, ?>> services) {
+        var stamp = PUBLICATION_LOCK.tryOptimisticRead();
+        var result = pinGenerations(services);
+        if (!PUBLICATION_LOCK.validate(stamp)) {
+            for (var i = 0; i < result.length; i++) {
+                services.get(i).unpin(result[i]);
+            }
+            stamp = PUBLICATION_LOCK.readLock();
+            try {
+                result = pinGenerations(services);
+            } finally {
+                PUBLICATION_LOCK.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    private static Object[] pinGenerations(List<RessorServiceImpl<?, ?>> services) {
+        var result = new Object[services.size()];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = services.get(i).pin();
+        }
+        return result;
+    }
+
+    private Generation pin() {
+        while (true) {
+            var g = generation;
+            g.pin();
+            // the same as for the calls, the publisher might not see the pin of the replaced generation
+            if (g == generation) {
+                return g;
+            }
+            unpin(g);
+        }
+    }
+
+    /**
+     * Releases the generation pinned by {@link #pin(List)}, which can be done from any thread.
+     */
+    public void unpin(Object generation) {
+        var g = (Generation) generation;
+        g.unpin();
+        if (g.retiring) {
+            retireDrained();
+        }
+    }
+
     @Override
     public ResourceId getResourceId() {
         return resourceId;
@@ -77,47 +183,225 @@ public class RessorServiceImpl<T, D> implements RessorService<T> {
         return latestVersion;
     }
 
+    /**
+     * Builds the new instance without holding any lock, so that a long translation doesn't block other reloads, and then
+     * publishes it, unless an instance built by a later reload was published already.
+     * <p/>
+     * Non forced reload is skipped if the service is already reloading.
+     */
     @Override
     public boolean reload(LoadedResource resource, boolean force) {
         if (resource != null) {
-            if (force) {
-                reloadLock.writeLock().lock();
+            if (reloadsInProgress.getAndIncrement() == 0 || force) {
                 try {
-                    return doReload(resource);
+                    return doReload(resource, reloadTickets.incrementAndGet());
                 } finally {
-                    reloadLock.writeLock().unlock();
+                    reloadsInProgress.decrementAndGet();
                 }
             } else {
-                reloadLock.readLock().lock();
-                try {
-                    return doReload(resource);
-                } finally {
-                    reloadLock.readLock().unlock();
-                }
+                reloadsInProgress.decrementAndGet();
+                metrics.recordOutcome(SKIPPED);
+                log.debug("Unable to reload service {}, since it's already reloading", type);
             }
         }
         return false;
     }
 
-    private boolean doReload(LoadedResource resource) {
-        if (!isReloading.compareAndExchange(false, true)) {
+    private boolean doReload(LoadedResource resource, long ticket) {
+        if (checkReloadActions()) {
+            var version = resource.getVersion();
+            var stream = resource.getInputStream();
+            // the byte buffer streams are passed as is, so that the translators could read the buffers directly
+            var counter = stream instanceof ByteBufferInputStream ? null : new CountingInputStream(stream);
+            var bytes = counter == null ? ((ByteBufferInputStream) stream).remaining() : 0;
+            var input = counter == null ? stream : counter;
+            var digestStream = contentDigest == null ? null : new ContentDigestInputStream(input, newDigest());
+            var start = System.nanoTime();
+            var data = translator.translate(digestStream == null ? input : digestStream);
+            metrics.translateTime().record(System.nanoTime() - start);
+            var isPublished = false;
             try {
-                if (checkReloadActions()) {
-                    var newResource = factory.apply(translator.translate(resource.getInputStream()));
-                    this.latestVersion = resource.getVersion();
-                    this.underlyingInstance = newResource;
+                byte[] digest = null;
+                if (digestStream != null) {
+                    digest = digestContent(digestStream);
+                    if (Arrays.equals(digest, latestDigest)) {
+                        silentlyClose(resource.getInputStream());
+                        log.debug("Content of service {} wasn't changed in version {}, skipping the instance creation", type, version);
+                        publish(null, null, version, digest, ticket);
+                        metrics.recordOutcome(NOT_MODIFIED);
+                        return false;
+                    }
+                }
+                if (incrementalFactory != null) {
                     silentlyClose(resource.getInputStream());
-                    return true;
+                    isPublished = reloadIncrementally((Map<Object, Object>) data, version, digest, ticket);
+                } else {
+                    start = System.nanoTime();
+                    var newResource = factory.apply(data);
+                    metrics.factoryTime().record(System.nanoTime() - start);
+                    silentlyClose(resource.getInputStream());
+                    isPublished = publish(newResource, data, version, digest, ticket);
                 }
+                metrics.recordOutcome(isPublished ? CHANGED : SKIPPED);
+                return isPublished;
             } finally {
-                isReloading.set(false);
+                metrics.bytesRead().record(counter == null ? bytes : counter.count());
+                if (!isPublished) {
+                    releasePayload(data);
+                }
             }
         } else {
-            log.debug("Unable to reload service {}, since it's already reloading", type);
+            metrics.recordOutcome(SKIPPED);
         }
         return false;
     }
 
+    /**
+     * Creates the new instance from the published one, so the incremental reloads are serialized along with their
+     * publication, otherwise a delta could be applied to an instance which is never published.
+     */
+    private boolean reloadIncrementally(Map<Object, Object> data, SourceVersion version, byte[] digest, long ticket) {
+        synchronized (incrementalLock) {
+            if (ticket < publishedTicket) {
+                log.debug("Discarding the data of service {} of version {}, since a newer one was published", type, version);
+                return false;
+            }
+            var delta = Delta.between(latestData == null ? Map.of() : latestData, data);
+            var start = System.nanoTime();
+            var newResource = incrementalFactory.apply((T) generation.instance, delta);
+            metrics.factoryTime().record(System.nanoTime() - start);
+            // the publication can still be discarded in favor of the unchanged content of a later reload
+            var isPublished = publish(newResource, data, version, digest, ticket);
+            if (isPublished) {
+                latestData = data;
+            }
+            return isPublished;
+        }
+    }
+
+    /**
+     * Publishes the new instance along with its version and content digest. If the instance is <b>null</b>, which means
+     * the content wasn't changed, only the version is updated.
+     * <p/>
+     * If the calls are tracked, the replaced instance and its {@link OffHeapPayload} are retired once all the calls to
+     * it are completed. Otherwise nothing tells when the replaced instance is not used anymore, so its payload is left
+     * to the garbage collector.
+     */
+    private boolean publish(T newResource, Object data, SourceVersion version, byte[] digest, long ticket) {
+        Generation replaced = null;
+        var start = System.nanoTime();
+        var stamp = PUBLICATION_LOCK.writeLock();
+        try {
+            if (ticket < publishedTicket) {
+                log.debug("Discarding the instance of service {} built from version {}, since a newer one was published", type, version);
+                return false;
+            }
+            this.publishedTicket = ticket;
+            this.latestVersion = version;
+            this.latestDigest = digest;
+            if (newResource != null) {
+                metrics.recordPublished();
+                if (callSite != null) {
+                    callSite.update(newResource);
+                }
+                var isTracked = onRetire != null;
+                replaced = isTracked ? generation : null;
+                generation = new Generation(newResource, data instanceof OffHeapPayload ? (OffHeapPayload) data : null, isTracked);
+            }
+        } finally {
+            PUBLICATION_LOCK.unlockWrite(stamp);
+            metrics.swapTime().record(System.nanoTime() - start);
+        }
+        if (replaced != null) {
+            synchronized (retirements) {
+                retirements.add(replaced);
+            }
+            replaced.retiring = true;
+            retireDrained();
+        }
+        return true;
+    }
+
+    /**
+     * Registers the proxy call to the current instance, must be followed by {@link #exit(Object)} with the returned
+     * generation once the call is completed. The call must be dispatched to {@link #instance(Object)} of the returned
+     * generation, since the current one might be replaced and retired while the call is running.
+     */
+    public Object enter() {
+        while (true) {
+            var g = generation;
+            g.increment();
+            // the generation could be replaced in the meantime, in which case the publisher might not see our call
+            if (g == generation) {
+                return g;
+            }
+            exit(g);
+        }
+    }
+
+    public void exit(Object generation) {
+        var g = (Generation) generation;
+        g.decrement();
+        if (g.retiring) {
+            retireDrained();
+        }
+    }
+
+    private void retireDrained() {
+        List<Generation> drained = null;
+        synchronized (retirements) {
+            for (var it = retirements.iterator(); it.hasNext(); ) {
+                var g = it.next();
+                if (g.isDrained()) {
+                    it.remove();
+                    if (drained == null) {
+                        drained = new ArrayList<>(1);
+                    }
+                    drained.add(g);
+                }
+            }
+        }
+        if (drained != null) {
+            for (var g : drained) {
+                retire(g);
+            }
+        }
+    }
+
+    private void retire(Generation g) {
+        // the initial generation holds the instance provided by the user, which is not ours to retire
+        if (g.instance != null) {
+            try {
+                onRetire.accept((T) g.instance);
+            } catch (Throwable t) {
+                log.error("Unable to retire the instance of service {}: {}", type, t.getMessage(), t);
+            }
+        }
+        releasePayload(g.payload);
+    }
+
+    private void releasePayload(Object data) {
+        if (data instanceof OffHeapPayload) {
+            ((OffHeapPayload) data).close();
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(contentDigest);
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+    private byte[] digestContent(ContentDigestInputStream stream) {
+        try {
+            return stream.digest();
+        } catch (IOException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
     private boolean checkReloadActions() {
         var actions = (List<ReloadAction>) state(ACTIONS);
         if (actions != null && actions.size() > 0) {
@@ -132,7 +416,7 @@ public class RessorServiceImpl<T, D> implements RessorService<T> {
 
     @Override
     public boolean isReloading() {
-        return isReloading.get();
+        return reloadsInProgress.get() > 0;
     }
 
     @Override
@@ -140,15 +424,132 @@ public class RessorServiceImpl<T, D> implements RessorService<T> {
         return errorHandler;
     }
 
+    /**
+     * The digest of the content the current instance was created from, or <b>null</b> if the content deduplication is
+     * disabled for this service.
+     */
+    public byte[] latestDigest() {
+        var digest = latestDigest;
+        return digest == null ? null : digest.clone();
+    }
+
+    public ServiceMetrics metrics() {
+        return metrics;
+    }
+
+    public RessorServiceImpl<T, D> contentDigest(String algorithm) {
+        this.contentDigest = algorithm;
+        return this;
+    }
+
+    public RessorServiceImpl<T, D> incrementalFactory(BiFunction<T, Delta<?, ?>, ? extends T> incrementalFactory) {
+        this.incrementalFactory = incrementalFactory;
+        return this;
+    }
+
+    /**
+     * Enables the tracking of the proxy calls, passing the replaced instances to the given hook once they are drained.
+     */
+    public RessorServiceImpl<T, D> onRetire(Consumer<? super T> onRetire) {
+        this.onRetire = onRetire;
+        this.generation = new Generation(null, null, onRetire != null);
+        return this;
+    }
+
+    /**
+     * Whether the proxy calls are tracked, so that the replaced instances are retired, see {@link #onRetire(Consumer)}.
+     */
+    public boolean isTracked() {
+        return onRetire != null;
+    }
+
+    void bind(InstanceCallSite callSite) {
+        this.callSite = callSite;
+    }
+
     public <K, V> V state(K key) {
         return (V) state.get(key);
     }
 
+    public <K, V> V stateIfAbsent(K key, Function<K, V> supplier) {
+        return (V) state.computeIfAbsent(key, k -> supplier.apply((K) k));
+    }
+
+    /**
+     * Sets the state variable, or removes it if the value is <b>null</b>.
+     */
     public RessorServiceImpl<T, D> state(Object key, Object value) {
-        if (key != null && value != null) {
-            state.put(key, value);
+        if (key != null) {
+            if (value != null) {
+                state.put(key, value);
+            } else {
+                state.remove(key);
+            }
         }
         return this;
     }
 
+    /**
+     * The published instance along with the count of the proxy calls in flight to it and of the snapshots pinning it,
+     * which are present only if the calls are tracked.
+     * <p/>
+     * The count of calls is striped by the calling thread, and since every thread decrements the same stripe it
+     * incremented, no stripe ever goes negative, so the sum can't be seen as zero while any call is in flight. Snapshots
+     * can be closed by another thread, so they are counted separately.
+     */
+    private static final class Generation {
+        private static final int STRIPES = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        // every stripe takes its own cache line
+        private static final int STRIPE_SPACING = 8;
+        private final Object instance;
+        private final OffHeapPayload payload;
+        private final AtomicLongArray inFlight;
+        private final AtomicInteger pins;
+        private volatile boolean retiring = false;
+
+        private Generation(Object instance, OffHeapPayload payload, boolean isTracked) {
+            this.instance = instance;
+            this.payload = payload;
+            this.inFlight = isTracked ? new AtomicLongArray(STRIPES * STRIPE_SPACING) : null;
+            this.pins = isTracked ? new AtomicInteger() : null;
+        }
+
+        private void increment() {
+            inFlight.getAndIncrement(stripe());
+        }
+
+        private void decrement() {
+            inFlight.getAndDecrement(stripe());
+        }
+
+        private void pin() {
+            if (pins != null) {
+                pins.incrementAndGet();
+            }
+        }
+
+        private void unpin() {
+            if (pins != null) {
+                pins.decrementAndGet();
+            }
+        }
+
+        private boolean isDrained() {
+            if (pins.get() != 0) {
+                return false;
+            }
+            for (var i = 0; i < STRIPES; i++) {
+                if (inFlight.get(i * STRIPE_SPACING) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int stripe() {
+            var id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+            return ((int) (id >>> 32) & (STRIPES - 1)) * STRIPE_SPACING;
+        }
+    }
+
 }
@@ -1,86 +1,289 @@
 package xyz.ressor.service.proxy;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.InvokeDynamic;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.matcher.ElementMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.ressor.commons.annotations.GenerateProxy;
 import xyz.ressor.commons.annotations.ServiceFactory;
 import xyz.ressor.commons.exceptions.TypeDefinitionException;
 import xyz.ressor.commons.utils.Exceptions;
+import xyz.ressor.ext.ServiceExtension;
+import xyz.ressor.metrics.jfr.ProxyBuildEvent;
 import xyz.ressor.service.RessorService;
 
+import java.io.IOException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default.INJECTION;
 import static net.bytebuddy.implementation.MethodCall.invoke;
 import static net.bytebuddy.implementation.MethodDelegation.toField;
 import static net.bytebuddy.implementation.MethodDelegation.toMethodReturnOf;
 import static net.bytebuddy.matcher.ElementMatchers.*;
+import static xyz.ressor.commons.utils.CollectionUtils.isEmpty;
 import static xyz.ressor.commons.utils.CollectionUtils.isNotEmpty;
 import static xyz.ressor.commons.utils.Exceptions.catchingFunc;
 import static xyz.ressor.commons.utils.ReflectionUtils.findAnnotatedExecutables;
 import static xyz.ressor.commons.utils.ReflectionUtils.findExecutable;
 import static xyz.ressor.commons.utils.RessorUtils.firstNonNull;
-import static xyz.ressor.commons.utils.StringUtils.randomString;
 
 public class ServiceProxyBuilder {
+    private static final Logger log = LoggerFactory.getLogger(ServiceProxyBuilder.class);
     private static final String PROXY_BASE_PACKAGE = "xyz.ressor.service.proxy.";
-    private static final String RS_VAR = "__$$rs";
+    private static final String PREGENERATED_PROXY_SUFFIX = "$RessorProxy";
+    /**
+     * The resource listing the names of the proxy classes available on the classpath, one per line, which is written by
+     * ressor-processor and along with the dumped classes.
+     */
+    private static final String PROXY_INDEX = "META-INF/ressor/proxies";
+    static final String RS_VAR = "__$$rs";
     private static final String RS_METHOD = "__$$grs";
     private static final String RS_METHOD_OBJECT = "__$$grso";
+    private static final Method BOOTSTRAP_METHOD = bootstrapMethod();
+    private static final Constructor<Object> OBJECT_CONSTRUCTOR = objectConstructor();
+    private static final ConcurrentMap<String, AtomicInteger> NAME_SEQUENCES = new ConcurrentHashMap<>();
+    private static final ClassValue<ConcurrentMap<ClassKey, WeakReference<Class<?>>>> CLASS_CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<ClassKey, WeakReference<Class<?>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ClassValue<MethodHandle> PROXY_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                var constructor = type.getDeclaredConstructor(RessorServiceImpl.class);
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class, RessorServiceImpl.class));
+            } catch (Throwable t) {
+                throw Exceptions.wrap(t);
+            }
+        }
+    };
+    /**
+     * The factory functions by their executables, held by the declaring class, so that every executable is compiled (or
+     * found not compilable) only once.
+     */
+    private static final ClassValue<ConcurrentMap<Executable, Function<?, ?>>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Executable, Function<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * The names listed by the {@link #PROXY_INDEX} resources of every class loader, so that the proxy classes missing
+     * on the classpath are not looked up with the exception thrown and caught each time.
+     */
+    private static final Map<ClassLoader, Set<String>> PROXY_INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
     private final ByteBuddy byteBuddy = new ByteBuddy();
     private final boolean isCacheClasses;
-    private final Map<Class<?>, GeneratedClassInfo> classCache = new HashMap<>();
+    private final Path classDumpDirectory;
 
     public ServiceProxyBuilder(boolean isCacheClasses) {
+        this(isCacheClasses, null);
+    }
+
+    public ServiceProxyBuilder(boolean isCacheClasses, Path classDumpDirectory) {
         this.isCacheClasses = isCacheClasses;
+        this.classDumpDirectory = classDumpDirectory;
     }
 
-    public synchronized <T, D> T buildProxy(ProxyContext<T, D> context) {
-        var serviceProxy = new RessorServiceImpl<>(context.getType(), getFactory(context), context.getTranslator(), context.getErrorHandler(),
-                context.getInitialInstance(), context.getResource())
-                .state(StateVariables.SOURCE, context.getSource());
-        Class<? extends T> loadedClass = null;
-        if (isCachePossible(context)) {
-            var gci = classCache.computeIfAbsent(context.getType(),
-                    k -> new GeneratedClassInfo(generateProxyClass(context), context.getProxyDefaultArguments(),
-                            context.getClassLoader(), context.isProxyObjectClassMethods()));
-            if (gci.isMatches(context)) {
-                loadedClass = (Class<? extends T>) gci.loadedClass;
+    public <T, D> T buildProxy(ProxyContext<T, D> context) {
+        var event = new ProxyBuildEvent();
+        event.begin();
+        try {
+            return buildProxy(context, event);
+        } finally {
+            if (event.shouldCommit()) {
+                event.describe(context.getType(), context.getResource(), context.getSource());
+                event.commit();
             }
         }
+    }
+
+    private <T, D> T buildProxy(ProxyContext<T, D> context, ProxyBuildEvent event) {
+        var factory = context.getIncrementalFactory() == null ? getFactory(context) : null;
+        var serviceProxy = new RessorServiceImpl<>(context.getType(), factory, context.getTranslator(), context.getErrorHandler(),
+                context.getInitialInstance(), context.getResource())
+                .state(StateVariables.SOURCE, context.getSource())
+                .contentDigest(context.getContentDigest())
+                .incrementalFactory(context.getIncrementalFactory())
+                .onRetire(context.getOnRetire());
+        Class<? extends T> loadedClass = isPregeneratedPossible(context) ? findPregeneratedClass(context) : null;
+        var origin = "pregenerated";
+        if (loadedClass == null && isCachePossible(context)) {
+            loadedClass = getCachedProxyClass(context);
+            origin = "cached";
+        }
         if (loadedClass == null) {
             loadedClass = generateProxyClass(context);
+            origin = "generated";
         }
+        event.proxyClass(loadedClass, origin);
 
         try {
-            var targetConstructor = loadedClass.getDeclaredConstructor();
-            targetConstructor.setAccessible(true);
-            var instance = targetConstructor.newInstance();
-            var mf = instance.getClass().getDeclaredField(RS_VAR);
-            mf.setAccessible(true);
-            mf.set(instance, serviceProxy);
-            return instance;
+            if (context.isConstantDispatch()) {
+                var callSite = new InstanceCallSite(context.getType(), serviceProxy);
+                var csf = loadedClass.getDeclaredField(InstanceCallSite.CALL_SITE_VAR);
+                csf.setAccessible(true);
+                csf.set(null, callSite);
+                serviceProxy.bind(callSite);
+            }
+            var constructor = PROXY_CONSTRUCTORS.get(loadedClass);
+            Object instance;
+            try {
+                instance = (Object) constructor.invokeExact(serviceProxy);
+            } catch (WrongMethodTypeException e) {
+                throw e;
+            } catch (Throwable t) {
+                // thrown by the constructor itself, errors included, same as Constructor.newInstance reports them
+                throw new InvocationTargetException(t);
+            }
+            return (T) instance;
         } catch (Throwable t) {
             throw Exceptions.wrap(t);
         }
     }
 
     private <T, D> boolean isCachePossible(ProxyContext<T, D> context) {
-        return isCacheClasses && context.getExtensions().size() == 0;
+        return isCacheClasses && context.getExtensions().stream().allMatch(e -> e.cacheKey() != null) &&
+                !context.isConstantDispatch();
+    }
+
+    /**
+     * Returns the proxy class from the global cache, generating it if absent. Cache entries are held by the service type
+     * and reference both the target class loader and the generated class weakly, so they don't prevent class loaders
+     * from being unloaded. Concurrent builds don't block each other, in case of a race the first published class wins.
+     */
+    private <T, D> Class<? extends T> getCachedProxyClass(ProxyContext<T, D> context) {
+        var cache = CLASS_CACHE.get(context.getType());
+        var key = new ClassKey(context, targetClassLoader(context));
+        var ref = cache.get(key);
+        var cachedClass = ref == null ? null : ref.get();
+        if (cachedClass == null) {
+            var generatedClass = generateProxyClass(context);
+            cache.values().removeIf(r -> r.get() == null);
+            cachedClass = cache.merge(key, new WeakReference<>(generatedClass), (o, n) -> o.get() != null ? o : n).get();
+            if (cachedClass == null) {
+                cachedClass = generatedClass;
+            }
+        }
+        return (Class<? extends T>) cachedClass;
+    }
+
+    private ClassLoader targetClassLoader(ProxyContext<?, ?> context) {
+        return firstNonNull(context.getClassLoader(), getClass().getClassLoader());
+    }
+
+    private <T, D> boolean isPregeneratedPossible(ProxyContext<T, D> context) {
+        return context.getType().isAnnotationPresent(GenerateProxy.class) && context.getExtensions().size() == 0 &&
+                isEmpty(context.getProxyDefaultArguments()) && context.isProxyObjectClassMethods() && !context.isConstantDispatch() &&
+                !context.isTrackInFlight();
+    }
+
+    private <T, D> Class<? extends T> findPregeneratedClass(ProxyContext<T, D> context) {
+        var type = context.getType();
+        var proxyClass = findProxyClass(type.getName() + PREGENERATED_PROXY_SUFFIX, type,
+                firstNonNull(context.getClassLoader(), type.getClassLoader()));
+        if (proxyClass == null) {
+            log.warn("Pregenerated proxy class wasn't found for {}, falling back to runtime generation. Please make sure " +
+                    "ressor-processor is configured as an annotation processor.", type);
+        }
+        return proxyClass;
+    }
+
+    private <T> Class<? extends T> findProxyClass(String name, Class<T> type, ClassLoader classLoader) {
+        if (!PROXY_INDEXES.computeIfAbsent(classLoader, ServiceProxyBuilder::readProxyIndex).contains(name)) {
+            return null;
+        }
+        try {
+            var proxyClass = Class.forName(name, false, classLoader);
+            if (type.isAssignableFrom(proxyClass) && RessorService.class.isAssignableFrom(proxyClass)) {
+                return (Class<? extends T>) proxyClass;
+            }
+        } catch (ClassNotFoundException ignored) { }
+        return null;
+    }
+
+    private static Set<String> readProxyIndex(ClassLoader classLoader) {
+        var names = new HashSet<String>();
+        try {
+            var resources = classLoader == null ? ClassLoader.getSystemResources(PROXY_INDEX) : classLoader.getResources(PROXY_INDEX);
+            while (resources.hasMoreElements()) {
+                try (var stream = resources.nextElement().openStream()) {
+                    for (var line : new String(stream.readAllBytes(), UTF_8).split("\n")) {
+                        if (!line.isBlank()) {
+                            names.add(line.trim());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read the Ressor proxy index {}: {}", PROXY_INDEX, e.getMessage());
+        }
+        return names;
     }
 
     private <T, D> Class<? extends T> generateProxyClass(ProxyContext<T, D> context) {
-        var b = byteBuddy.subclass(context.getType()).name(generateName(context.getType()));
+        var name = generateName(context);
+        var classLoader = targetClassLoader(context);
+        // the name is never used twice in the same JVM, so the class can only come from the classpath (e.g. dumped earlier),
+        // unless the name doesn't reflect the state of the extensions or the default arguments
+        if (context.getExtensions().stream().allMatch(e -> e.cacheKey() != null && isStableOption(e.cacheKey())) &&
+                (context.getProxyDefaultArguments() == null ||
+                        Arrays.stream(context.getProxyDefaultArguments()).allMatch(ServiceProxyBuilder::isStableOption))) {
+            var existingClass = findProxyClass(name, context.getType(), classLoader);
+            if (existingClass != null) {
+                return existingClass;
+            }
+        }
+        var b = byteBuddy.subclass(context.getType(), ConstructorStrategy.Default.NO_CONSTRUCTORS).name(name);
         if (isNotEmpty(context.getExtensions())) {
             for (var ext : context.getExtensions()) {
                 b = ext.interceptProxy(b, context.getType());
@@ -89,33 +292,186 @@ public class ServiceProxyBuilder {
         var typeDef = TypeDefinition.of(context.getType(), context.getProxyDefaultArguments());
 
         var i = b.implement(RessorService.class);
-        DynamicType.Builder<? extends T> m = i;
-        if (!typeDef.isInterface() && typeDef.getDefaultArguments().length > 0) {
-            var constructor = invoke(typeDef.getDefaultConstructor())
-                    .with(typeDef.getDefaultArguments());
-            m = i.defineConstructor(Visibility.PUBLIC).intercept(constructor);
-        }
-        var serviceInstanceMethod = invoke(named("instance")).onField(RS_VAR).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC);
-        var f = m.defineField(RS_VAR, RessorServiceImpl.class, Visibility.PRIVATE)
-                .defineMethod(RS_METHOD, context.getType(), Visibility.PRIVATE)
-                .intercept(serviceInstanceMethod)
+        var superConstructor = typeDef.isInterface() ? invoke(OBJECT_CONSTRUCTOR) :
+                invoke(typeDef.getDefaultConstructor()).with(typeDef.getDefaultArguments());
+        DynamicType.Builder<? extends T> m = i.defineConstructor(Visibility.PUBLIC)
+                .withParameters(RessorServiceImpl.class)
+                .intercept(superConstructor.andThen(FieldAccessor.ofField(RS_VAR).setsArgumentAt(0)));
+        if (context.isConstantDispatch()) {
+            m = m.defineField(InstanceCallSite.CALL_SITE_VAR, InstanceCallSite.class, Visibility.PRIVATE, Ownership.STATIC);
+        }
+        DynamicType.Builder<? extends T> f = defineInstanceMethod(m.defineField(RS_VAR, RessorServiceImpl.class, Visibility.PRIVATE), context,
+                RS_METHOD, context.getType())
                 .method(isDeclaredBy(RessorService.class).and(not(isDefaultMethod())))
-                .intercept(toField(RS_VAR))
-                .method(isDeepDeclaredBy(context.getType()))
-                .intercept(toMethodReturnOf(RS_METHOD));
+                .intercept(toField(RS_VAR));
+        f = delegate(f, context, context.getType(), isDeepDeclaredBy(context.getType()), RS_METHOD);
         if (context.isProxyObjectClassMethods()) {
-            f = f.defineMethod(RS_METHOD_OBJECT, Object.class, Visibility.PRIVATE)
-                    .intercept(serviceInstanceMethod)
-                    .method(definedMethod(mt -> isEquals(mt) || isHashCode(mt) || isToString(mt)))
-                    .intercept(toMethodReturnOf(RS_METHOD_OBJECT));
+            f = delegate(defineInstanceMethod(f, context, RS_METHOD_OBJECT, Object.class), context, Object.class,
+                    definedMethod(mt -> isEquals(mt) || isHashCode(mt) || isToString(mt)), RS_METHOD_OBJECT);
+        }
+        var proxyType = f.make();
+        if (classDumpDirectory != null) {
+            try {
+                proxyType.saveIn(classDumpDirectory.toFile());
+                appendProxyIndex(name);
+            } catch (IOException e) {
+                log.warn("Unable to dump proxy class {} into {}: {}", name, classDumpDirectory, e.getMessage());
+            }
+        }
+        return proxyType.load(classLoader, INJECTION).getLoaded();
+    }
+
+    /**
+     * Delegates the matched methods to the underlying instance. If the calls are tracked, every method enters the current
+     * generation and passes it to the private helper method, which dispatches the call to the instance of that
+     * generation and exits it afterwards, see {@link InFlightAdvice}.
+     */
+    private <T> DynamicType.Builder<T> delegate(DynamicType.Builder<T> b, ProxyContext<?, ?> context, Class<?> type,
+                                                ElementMatcher<? super MethodDescription> matcher, String instanceMethod) {
+        if (!context.isTrackInFlight()) {
+            return b.method(matcher).intercept(toMethodReturnOf(instanceMethod));
+        }
+        var index = 0;
+        for (var node : MethodGraph.Compiler.DEFAULT.compile(TypeDescription.ForLoadedType.of(type)).listNodes()) {
+            var method = node.getRepresentative();
+            if (node.getSort().isResolved() && matcher.matches(method) && isOverridable(method)) {
+                var helper = instanceMethod + "$" + index++;
+                var parameters = new ArrayList<TypeDescription>();
+                parameters.add(TypeDescription.OBJECT);
+                parameters.addAll(method.getParameters().asTypeList().asErasures());
+                var arguments = IntStream.rangeClosed(1, method.getParameters().size()).toArray();
+                b = b.defineMethod(helper, method.getReturnType().asErasure(), Visibility.PRIVATE)
+                        .withParameters(parameters)
+                        .intercept(Advice.to(InFlightAdvice.class).wrap(invoke(method)
+                                .onMethodCall(invokeDeclared(instanceMethod).withArgument(0))
+                                .withArgument(arguments)))
+                        .method(named(method.getName()).and(returns(method.getReturnType().asErasure()))
+                                .and(takesArguments(method.getParameters().asTypeList().asErasures())))
+                        .intercept(invokeDeclared(helper).withMethodCall(invoke(named("enter")).onField(RS_VAR))
+                                .withAllArguments());
+            }
+        }
+        return b;
+    }
+
+    /**
+     * Invokes the method declared by the proxy class itself, which includes the private ones, unlike {@link MethodCall#invoke(ElementMatcher)}.
+     */
+    private static MethodCall.WithoutSpecifiedTarget invokeDeclared(String name) {
+        MethodCall.MethodLocator.Factory locator = instrumentedType ->
+                (type, method) -> instrumentedType.getDeclaredMethods().filter(named(name)).getOnly();
+        return invoke(locator);
+    }
+
+    private boolean isOverridable(MethodDescription method) {
+        return method.isVirtual() && !method.isFinal() && (method.isPublic() || method.isProtected());
+    }
+
+    /**
+     * Defines the private method returning the underlying instance, which takes the entered generation if the calls are
+     * tracked, so that the call is never dispatched to a newer instance than the one it was counted on.
+     */
+    private <T> DynamicType.Builder<T> defineInstanceMethod(DynamicType.Builder<T> b, ProxyContext<?, ?> context,
+                                                            String name, Class<?> returnType) {
+        if (context.isTrackInFlight()) {
+            return b.defineMethod(name, returnType, Visibility.PRIVATE)
+                    .withParameters(Object.class)
+                    .intercept(invoke(named("instance").and(takesArguments(1))).onField(RS_VAR).withArgument(0)
+                            .withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC));
+        } else {
+            return b.defineMethod(name, returnType, Visibility.PRIVATE).intercept(serviceInstanceMethod(context, returnType));
+        }
+    }
+
+    private void appendProxyIndex(String name) throws IOException {
+        var index = classDumpDirectory.resolve(PROXY_INDEX);
+        synchronized (PROXY_INDEXES) {
+            Files.createDirectories(index.getParent());
+            Files.writeString(index, name + "\n", UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private Implementation serviceInstanceMethod(ProxyContext<?, ?> context, Class<?> returnType) {
+        if (context.isConstantDispatch()) {
+            return InvokeDynamic.bootstrap(BOOTSTRAP_METHOD).invoke("instance", returnType).withoutArguments();
+        } else {
+            return invoke(named("instance").and(takesArguments(0))).onField(RS_VAR).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC);
+        }
+    }
+
+    private static Constructor<Object> objectConstructor() {
+        try {
+            return Object.class.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+    private static Method bootstrapMethod() {
+        try {
+            return InstanceCallSite.class.getMethod("bootstrap", MethodHandles.Lookup.class, String.class, MethodType.class);
+        } catch (NoSuchMethodException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+    /**
+     * Generates the proxy class name, which is stable between JVM runs, so that the classes dumped once can be found on the
+     * classpath and archived with CDS. The name is derived from the proxy options, with the sequence suffix added when
+     * the same options are proxied more than once.
+     */
+    private <T, D> String generateName(ProxyContext<T, D> context) {
+        var type = context.getType();
+        var name = PROXY_BASE_PACKAGE + type.getSimpleName() + "$RessorProxy$" + optionsDigest(context);
+        var sequence = NAME_SEQUENCES.computeIfAbsent(name, k -> new AtomicInteger()).getAndIncrement();
+        return sequence == 0 ? name : name + "_" + sequence;
+    }
+
+    private <T, D> String optionsDigest(ProxyContext<T, D> context) {
+        var options = new StringBuilder(context.getType().getName())
+                .append(';').append(context.isProxyObjectClassMethods())
+                .append(';').append(context.isConstantDispatch())
+                .append(';').append(context.isTrackInFlight());
+        if (context.getProxyDefaultArguments() != null) {
+            for (var arg : context.getProxyDefaultArguments()) {
+                appendOption(options, arg == null ? null : arg.getClass().getName(), arg);
+            }
+        }
+        for (var ext : context.getExtensions()) {
+            appendOption(options, ext.getClass().getName(), ext.cacheKey());
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(options.toString().getBytes(UTF_8));
+            return String.format("%016x", ByteBuffer.wrap(digest).getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+    /**
+     * Values without a stable representation (e.g. the identity based {@link Object#toString()}) are left out, so that
+     * the proxies differing in them only are told apart by the sequence suffix.
+     */
+    private static void appendOption(StringBuilder options, String name, Object value) {
+        options.append(';').append(name);
+        if (isStableOption(value)) {
+            options.append('=').append(value);
         }
-        return f.make()
-                .load(firstNonNull(context.getClassLoader(), getClass().getClassLoader()), INJECTION)
-                .getLoaded();
     }
 
-    private <T> String generateName(Class<T> type) {
-        return PROXY_BASE_PACKAGE + type.getSimpleName() + "$RessorProxy$" + randomString();
+    private static boolean isStableOption(Object value) {
+        if (value == null) {
+            return true;
+        }
+        var type = value.getClass();
+        if (type.isArray() || type.isSynthetic()) {
+            return false;
+        }
+        try {
+            return type.getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            throw Exceptions.wrap(e);
+        }
     }
 
     private boolean isHashCode(MethodDescription.InDefinedShape target) {
@@ -151,12 +507,38 @@ public class ServiceProxyBuilder {
                         "- Factory function provided during service building using Ressor.\n\nPlease make sure to " +
                         "provide any from the list above.");
             }
-            factoryExecutable.setAccessible(true);
-            if (factoryExecutable instanceof Method) {
-                return catchingFunc(a -> (T) ((Method) factoryExecutable).invoke(null, a));
-            } else {
-                return catchingFunc(a -> (T) ((Constructor) factoryExecutable).newInstance(a));
-            }
+            return (Function<D, ? extends T>) FACTORIES.get(factoryExecutable.getDeclaringClass())
+                    .computeIfAbsent(factoryExecutable, this::createFactory);
+        }
+    }
+
+    private <T, D> Function<D, ? extends T> createFactory(Executable factoryExecutable) {
+        factoryExecutable.setAccessible(true);
+        Function<D, ? extends T> compiledFactory = compileFactory(factoryExecutable);
+        if (compiledFactory != null) {
+            return compiledFactory;
+        } else if (factoryExecutable instanceof Method) {
+            return catchingFunc(a -> (T) ((Method) factoryExecutable).invoke(null, a));
+        } else {
+            return catchingFunc(a -> (T) ((Constructor) factoryExecutable).newInstance(a));
+        }
+    }
+
+    /**
+     * Compiles the factory executable into a direct {@link Function} implementation with {@link LambdaMetafactory}, which
+     * avoids reflective calls on every reload. Returns null if it's not possible, so that reflection is used instead.
+     */
+    private <T, D> Function<D, ? extends T> compileFactory(Executable executable) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(executable.getDeclaringClass(), MethodHandles.lookup());
+            var handle = executable instanceof Method ? lookup.unreflect((Method) executable) :
+                    lookup.unreflectConstructor((Constructor<?>) executable);
+            var callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+            return (Function<D, ? extends T>) callSite.getTarget().invoke();
+        } catch (Throwable t) {
+            log.debug("Unable to compile factory {}, falling back to reflection: {}", executable, t.getMessage());
+            return null;
         }
     }
 
@@ -175,23 +557,40 @@ public class ServiceProxyBuilder {
         }
     }
 
-    private static class GeneratedClassInfo {
-        private final Class<?> loadedClass;
+    private static class ClassKey {
+        private final WeakReference<ClassLoader> classLoader;
         private final Object[] defaultArguments;
-        private final ClassLoader classLoader;
         private final boolean isProxyObjectClassMethods;
+        private final boolean isTrackInFlight;
+        private final List<Object> extensionKeys;
+        private final int hashCode;
+
+        public ClassKey(ProxyContext<?, ?> ctx, ClassLoader classLoader) {
+            this.classLoader = new WeakReference<>(classLoader);
+            this.defaultArguments = ctx.getProxyDefaultArguments() == null ? null : ctx.getProxyDefaultArguments().clone();
+            this.isProxyObjectClassMethods = ctx.isProxyObjectClassMethods();
+            this.isTrackInFlight = ctx.isTrackInFlight();
+            // the same cache key of different extensions doesn't mean the same interceptors
+            this.extensionKeys = ctx.getExtensions().stream().map(e -> Arrays.asList(e.getClass(), e.cacheKey()))
+                    .collect(Collectors.toList());
+            this.hashCode = Objects.hash(System.identityHashCode(classLoader), Arrays.hashCode(defaultArguments),
+                    isProxyObjectClassMethods, isTrackInFlight, extensionKeys);
+        }
 
-        public GeneratedClassInfo(Class<?> loadedClass, Object[] defaultArguments, ClassLoader classLoader,
-                                  boolean isProxyObjectClassMethods) {
-            this.loadedClass = loadedClass;
-            this.defaultArguments = defaultArguments;
-            this.classLoader = classLoader;
-            this.isProxyObjectClassMethods = isProxyObjectClassMethods;
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            var other = (ClassKey) o;
+            var cl = classLoader.get();
+            return cl != null && cl == other.classLoader.get() && isProxyObjectClassMethods == other.isProxyObjectClassMethods &&
+                    isTrackInFlight == other.isTrackInFlight &&
+                    Arrays.equals(defaultArguments, other.defaultArguments) && extensionKeys.equals(other.extensionKeys);
         }
 
-        public boolean isMatches(ProxyContext<?, ?> ctx) {
-            return isProxyObjectClassMethods == ctx.isProxyObjectClassMethods() &&
-                    Arrays.equals(defaultArguments, ctx.getProxyDefaultArguments()) && Objects.equals(classLoader, ctx.getClassLoader());
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 
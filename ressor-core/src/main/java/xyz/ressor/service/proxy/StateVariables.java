@@ -1,5 +1,5 @@
 package xyz.ressor.service.proxy;
 
 public enum StateVariables {
-    SOURCE, LOADER, ACTIONS
+    SOURCE, LOADER, ACTIONS, RELOAD_FLIGHT
 }
@@ -0,0 +1,121 @@
+package xyz.ressor.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link InputStream} reading the content of the list of {@link ByteBuffer} segments one by one, usually the memory
+ * mapped file regions.
+ * <p/>
+ * Translators can detect it and read the segments directly with {@link #buffers()}, avoiding the intermediate copies.
+ * Translators which are not aware of it read the content through the stream, which copies it into their own buffers.
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final List<ByteBuffer> buffers;
+    private int current = 0;
+
+    public ByteBufferInputStream(List<ByteBuffer> buffers) {
+        var duplicates = new ArrayList<ByteBuffer>(buffers.size());
+        for (var buffer : buffers) {
+            duplicates.add(buffer.asReadOnlyBuffer());
+        }
+        this.buffers = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Read-only views of the content segments, which were not read yet, positioned at the current reading position.
+     */
+    public List<ByteBuffer> buffers() {
+        var result = new ArrayList<ByteBuffer>(buffers.size() - current);
+        for (var i = current; i < buffers.size(); i++) {
+            result.add(buffers.get(i).duplicate());
+        }
+        return result;
+    }
+
+    /**
+     * The amount of bytes left to read.
+     */
+    public long remaining() {
+        var result = 0L;
+        for (var i = current; i < buffers.size(); i++) {
+            result += buffers.get(i).remaining();
+        }
+        return result;
+    }
+
+    @Override
+    public int read() {
+        var buffer = currentBuffer();
+        return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        var buffer = currentBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        var count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        var remaining = remaining();
+        if (remaining > Integer.MAX_VALUE - 8) {
+            throw new IOException("The content is too large to be read into a byte array: " + remaining + " bytes");
+        }
+        var result = new byte[(int) remaining];
+        var offset = 0;
+        ByteBuffer buffer;
+        while ((buffer = currentBuffer()) != null) {
+            var count = buffer.remaining();
+            buffer.get(result, offset, count);
+            offset += count;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) {
+        var skipped = 0L;
+        ByteBuffer buffer;
+        while (skipped < n && (buffer = currentBuffer()) != null) {
+            var count = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(remaining(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() {
+        current = buffers.size();
+    }
+
+    private ByteBuffer currentBuffer() {
+        while (current < buffers.size()) {
+            var buffer = buffers.get(current);
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            current++;
+        }
+        return null;
+    }
+
+}
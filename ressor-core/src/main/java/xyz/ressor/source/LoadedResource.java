@@ -1,6 +1,8 @@
 package xyz.ressor.source;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
 
 public class LoadedResource {
@@ -25,10 +27,25 @@ public class LoadedResource {
         this.resourceId = resourceId;
     }
 
+    /**
+     * Creates the resource backed by the given buffers, usually the memory mapped regions of a file. The translators
+     * aware of {@link ByteBufferInputStream} can read them directly.
+     */
+    public LoadedResource(List<ByteBuffer> buffers, SourceVersion version, ResourceId resourceId) {
+        this(new ByteBufferInputStream(buffers), version, resourceId);
+    }
+
     public InputStream getInputStream() {
         return inputStream;
     }
 
+    /**
+     * The content buffers, if the resource is backed by them, otherwise <b>null</b>.
+     */
+    public List<ByteBuffer> getBuffers() {
+        return inputStream instanceof ByteBufferInputStream ? ((ByteBufferInputStream) inputStream).buffers() : null;
+    }
+
     public SourceVersion getVersion() {
         return version;
     }
@@ -5,8 +5,13 @@ import xyz.ressor.source.*;
 import xyz.ressor.source.version.LastModified;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
@@ -17,7 +22,9 @@ import static xyz.ressor.commons.utils.Exceptions.wrap;
 
 public class FileSystemSource extends AbstractSource<FileSystemResourceId> {
     private static final SourceVersion EMPTY = new LastModified(-1L);
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
     private final FileSystemWatchService watchService;
+    private final boolean memoryMapped;
     private final List<Consumer<Path>> listeners = new CopyOnWriteArrayList<>();
 
     public FileSystemSource() {
@@ -25,7 +32,16 @@ public class FileSystemSource extends AbstractSource<FileSystemResourceId> {
     }
 
     public FileSystemSource(FileSystemWatchService watchService) {
+        this(watchService, false);
+    }
+
+    /**
+     * @param memoryMapped whether to map the files into memory instead of reading them through the stream, see
+     *                     {@link #isMemoryMapped()}
+     */
+    public FileSystemSource(FileSystemWatchService watchService, boolean memoryMapped) {
         this.watchService = watchService;
+        this.memoryMapped = memoryMapped;
     }
 
     @Override
@@ -35,6 +51,9 @@ public class FileSystemSource extends AbstractSource<FileSystemResourceId> {
             if (!resourceId.isClasspath()) {
                 var currentLastModified = Files.getLastModifiedTime(resourceId.getResourcePath()).toMillis();
                 if (currentLastModified > lastModifiedMillis) {
+                    if (memoryMapped) {
+                        return new LoadedResource(map(resourceId.getResourcePath()), new LastModified(currentLastModified), resourceId);
+                    }
                     return new LoadedResource(newInputStream(resourceId.getResourcePath()), new LastModified(currentLastModified), resourceId);
                 } else {
                     return null;
@@ -61,6 +80,32 @@ public class FileSystemSource extends AbstractSource<FileSystemResourceId> {
         }
     }
 
+    private List<ByteBuffer> map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            var segments = new ArrayList<ByteBuffer>((int) (size / MAX_SEGMENT_SIZE) + 1);
+            for (var position = 0L; position < size; position += MAX_SEGMENT_SIZE) {
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_SEGMENT_SIZE, size - position)));
+            }
+            return segments;
+        }
+    }
+
+    /**
+     * Whether the files (but not the classpath resources) are memory mapped instead of being read through the file
+     * stream. Files larger than 2 GB are mapped as several segments.
+     * <p/>
+     * Only {@link xyz.ressor.translator.Translators#byteBuffer()} and {@link xyz.ressor.translator.Translators#offHeap()}
+     * read the mapped content without copying it to the heap. The other translators, including the Jackson ones, still
+     * read it through the stream into their own heap buffers, the mapping only saves the copies made by the file stream.
+     * <p/>
+     * Please note that the file must not be truncated while it's being read, which is usually achieved by replacing
+     * the file with a new one instead of rewriting it in place.
+     */
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public boolean isListenable() {
         return watchService != null;
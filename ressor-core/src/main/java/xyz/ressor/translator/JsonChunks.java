@@ -0,0 +1,130 @@
+package xyz.ressor.translator;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static xyz.ressor.commons.utils.Exceptions.wrap;
+
+/**
+ * Splits the raw JSON content into chunks of top level values, which can be parsed independently of each other.
+ * <p/>
+ * Only the structural characters are scanned here, which are always single bytes in UTF-8, so this is much cheaper
+ * than the actual parsing.
+ */
+final class JsonChunks {
+    static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private JsonChunks() {
+    }
+
+    /**
+     * Splits newline delimited JSON into chunks of whole lines, each of roughly chunkSize bytes.
+     *
+     * @return chunks as [start, end) offset pairs
+     */
+    static List<int[]> lines(byte[] data, int chunkSize) {
+        var result = new ArrayList<int[]>();
+        var start = 0;
+        while (start < data.length) {
+            var end = Math.min(start + chunkSize, data.length);
+            while (end < data.length && data[end - 1] != '\n') {
+                end++;
+            }
+            result.add(new int[] { start, end });
+            start = end;
+        }
+        return result;
+    }
+
+    /**
+     * Splits the top level JSON array into chunks of its elements, each of roughly chunkSize bytes.
+     * <p/>
+     * Empty elements and elements not separated by commas are rejected here, since they can't be noticed
+     * once the elements are parsed independently.
+     *
+     * @return chunks as arrays of [start, end) offset pairs of the elements
+     */
+    static List<int[]> arrayElements(byte[] data, int chunkSize) {
+        var i = skipWhitespace(data, 0);
+        if (i == data.length || data[i] != '[') {
+            throw wrap(new JsonParseException(null, "Expected JSON array at the top level"));
+        }
+        var result = new ArrayList<int[]>();
+        var chunk = new int[16];
+        var chunkLength = 0;
+        var arrayStart = i + 1;
+        var chunkStart = i + 1;
+        var elementStart = i + 1;
+        var depth = 0;
+        var inString = false;
+        var inValue = false;
+        var isValueEnded = false;
+        for (i = i + 1; i < data.length; i++) {
+            var c = data[i];
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                    isValueEnded = depth == 0;
+                }
+                continue;
+            }
+            var isEnd = depth == 0 && c == ']';
+            if (isEnd || depth == 0 && c == ',') {
+                if (!inValue) {
+                    if (isEnd && elementStart == arrayStart) {
+                        return result;
+                    }
+                    throw wrap(new JsonParseException(null, "Empty element of the top level JSON array at offset " + i));
+                }
+                if (chunkLength == chunk.length) {
+                    chunk = Arrays.copyOf(chunk, chunk.length * 2);
+                }
+                chunk[chunkLength++] = skipWhitespace(data, elementStart);
+                chunk[chunkLength++] = i;
+                elementStart = i + 1;
+                inValue = false;
+                isValueEnded = false;
+                if (isEnd || i - chunkStart >= chunkSize) {
+                    result.add(Arrays.copyOf(chunk, chunkLength));
+                    chunkLength = 0;
+                    chunkStart = i + 1;
+                }
+                if (isEnd) {
+                    return result;
+                }
+            } else if (isWhitespace(c)) {
+                isValueEnded |= depth == 0 && inValue;
+            } else {
+                if (isValueEnded) {
+                    throw wrap(new JsonParseException(null, "Expected ',' between the elements of the top level JSON array at offset " + i));
+                }
+                inValue = true;
+                if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if ((c == '}' || c == ']') && depth > 0) {
+                    isValueEnded = --depth == 0;
+                }
+            }
+        }
+        throw wrap(new JsonParseException(null, "Unexpected end of the top level JSON array"));
+    }
+
+    private static int skipWhitespace(byte[] data, int i) {
+        while (i < data.length && isWhitespace(data[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+}
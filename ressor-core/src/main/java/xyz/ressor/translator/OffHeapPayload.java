@@ -0,0 +1,125 @@
+package xyz.ressor.translator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.ressor.source.ByteBufferInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+
+/**
+ * The raw resource data stored in a direct {@link ByteBuffer} outside of the heap, see {@link Translators#offHeap()}.
+ * <p/>
+ * When produced by the translator of a service with a retirement hook, the payload is released by Ressor itself, right
+ * after the instance created from it was replaced and all the calls and snapshots of it are completed. It must not be
+ * used after that, including the buffers obtained from it. Without the hook, the memory is freed by the garbage
+ * collector, once the payload and all its buffers are unreachable.
+ */
+public final class OffHeapPayload implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(OffHeapPayload.class);
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+    private final ByteBuffer buffer;
+    private volatile boolean released = false;
+
+    private OffHeapPayload(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads the whole stream into a new off-heap buffer.
+     */
+    public static OffHeapPayload read(InputStream stream) throws IOException {
+        if (stream instanceof ByteBufferInputStream) {
+            var bbs = (ByteBufferInputStream) stream;
+            var buffer = allocate(bbs.remaining());
+            for (var segment : bbs.buffers()) {
+                buffer.put(segment);
+            }
+            bbs.close();
+            return new OffHeapPayload(buffer.flip());
+        }
+        var buffer = ByteBuffer.allocateDirect(Math.max(stream.available(), CHUNK_SIZE));
+        var chunk = new byte[CHUNK_SIZE];
+        int count;
+        while ((count = stream.read(chunk)) >= 0) {
+            if (buffer.remaining() < count) {
+                var grown = allocate(Math.max((long) buffer.capacity() * 2, (long) buffer.position() + count));
+                grown.put(buffer.flip());
+                free(buffer);
+                buffer = grown;
+            }
+            buffer.put(chunk, 0, count);
+        }
+        return new OffHeapPayload(buffer.flip());
+    }
+
+    /**
+     * Read-only view of the payload.
+     */
+    public ByteBuffer buffer() {
+        if (released) {
+            throw new IllegalStateException("The payload is already released");
+        }
+        return buffer.asReadOnlyBuffer();
+    }
+
+    public int size() {
+        return buffer.limit();
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Frees the off-heap memory immediately, if supported by the JVM, otherwise it's left to the garbage collector.
+     */
+    @Override
+    public void close() {
+        if (!released) {
+            synchronized (this) {
+                if (!released) {
+                    released = true;
+                    free(buffer);
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer allocate(long size) throws IOException {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IOException("The content is too large for the off-heap payload: " + size + " bytes");
+        }
+        return ByteBuffer.allocateDirect((int) size);
+    }
+
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (Throwable t) {
+                log.debug("Unable to free the off-heap buffer: {}", t.getMessage());
+            }
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (Throwable t) {
+            log.debug("Explicit release of the off-heap buffers is not supported: {}", t.getMessage());
+            return null;
+        }
+    }
+
+}
@@ -3,21 +3,32 @@ package xyz.ressor.translator;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import xyz.ressor.source.ByteBufferInputStream;
 import xyz.ressor.translator.xml.DuplicateToArrayJsonNodeDeserializer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.GZIPInputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static xyz.ressor.commons.utils.Exceptions.catchingFunc;
 import static xyz.ressor.commons.utils.Exceptions.wrap;
+import static xyz.ressor.commons.utils.RessorUtils.silentlyClose;
 import static xyz.ressor.translator.Translator.define;
 
 public abstract class TranslatorHelper {
@@ -51,6 +62,41 @@ public abstract class TranslatorHelper {
         }, InputStream.class, byte[].class);
     }
 
+    /**
+     * Passes the content buffer as is, if the stream is backed by a single one, otherwise reads the stream into a new
+     * heap buffer.
+     */
+    public static Translator<InputStream, ByteBuffer> inputStream2ByteBuffer() {
+        return define(s -> {
+            try {
+                if (s instanceof ByteBufferInputStream) {
+                    var buffers = ((ByteBufferInputStream) s).buffers();
+                    if (buffers.size() == 1) {
+                        s.close();
+                        return buffers.get(0);
+                    }
+                }
+                return ByteBuffer.wrap(s.readAllBytes());
+            } catch (IOException e) {
+                throw wrap(e);
+            }
+        }, InputStream.class, ByteBuffer.class);
+    }
+
+    public static <T> Translator<InputStream, T> inputStream2ByteBuffer(Translator<ByteBuffer, T> translator) {
+        return inputStream2ByteBuffer().then(translator);
+    }
+
+    public static Translator<InputStream, OffHeapPayload> inputStream2OffHeap() {
+        return define(s -> {
+            try {
+                return OffHeapPayload.read(s);
+            } catch (IOException e) {
+                throw wrap(e);
+            }
+        }, InputStream.class, OffHeapPayload.class);
+    }
+
     public static Translator<InputStream, String> inputStream2String(Charset charset) {
         return inputStream2Bytes().then(bytes2String(charset));
     }
@@ -107,6 +153,76 @@ public abstract class TranslatorHelper {
         return inputStream2YamlObjectList(type, YAML_MAPPER);
     }
 
+    public static <T> Translator<InputStream, Stream<T>> inputStream2JsonObjectStream(Class<T> type, ObjectMapper mapper) {
+        return inputStream2ObjectStream(mapper, type);
+    }
+
+    public static <T> Translator<InputStream, Stream<T>> inputStream2JsonObjectStream(Class<T> type) {
+        return inputStream2JsonObjectStream(type, JSON_MAPPER);
+    }
+
+    public static <T> Translator<InputStream, Stream<T>> inputStream2YamlObjectStream(Class<T> type, ObjectMapper mapper) {
+        return inputStream2ObjectStream(mapper, type);
+    }
+
+    public static <T> Translator<InputStream, Stream<T>> inputStream2YamlObjectStream(Class<T> type) {
+        return inputStream2YamlObjectStream(type, YAML_MAPPER);
+    }
+
+    public static <T> Translator<InputStream, List<T>> inputStream2JsonObjectListParallel(Class<T> type, ObjectMapper mapper,
+                                                                                         ForkJoinPool pool) {
+        return inputStream2Bytes().then(define(bytes -> parseParallel(bytes, JsonChunks.arrayElements(bytes, JsonChunks.DEFAULT_CHUNK_SIZE),
+                true, mapper.readerFor(type), pool), byte[].class, (Class<List<T>>) (Class<?>) List.class));
+    }
+
+    public static <T> Translator<InputStream, List<T>> inputStream2JsonObjectListParallel(Class<T> type) {
+        return inputStream2JsonObjectListParallel(type, JSON_MAPPER, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Translator<InputStream, List<T>> inputStream2JsonLinesParallel(Class<T> type, ObjectMapper mapper,
+                                                                                    ForkJoinPool pool) {
+        return inputStream2Bytes().then(define(bytes -> parseParallel(bytes, JsonChunks.lines(bytes, JsonChunks.DEFAULT_CHUNK_SIZE),
+                false, mapper.readerFor(type), pool), byte[].class, (Class<List<T>>) (Class<?>) List.class));
+    }
+
+    public static <T> Translator<InputStream, List<T>> inputStream2JsonLinesParallel(Class<T> type) {
+        return inputStream2JsonLinesParallel(type, JSON_MAPPER, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Translator<InputStream, Map<String, T>> inputStream2JsonObjectMap(Class<T> type, ObjectMapper mapper) {
+        return inputStream2ObjectMap(mapper, type);
+    }
+
+    public static <T> Translator<InputStream, Map<String, T>> inputStream2JsonObjectMap(Class<T> type) {
+        return inputStream2JsonObjectMap(type, JSON_MAPPER);
+    }
+
+    public static <K, T> Translator<InputStream, Map<K, T>> inputStream2JsonKeyedMap(Class<T> type, Function<T, K> key,
+                                                                                    ObjectMapper mapper) {
+        return inputStream2ObjectList(mapper, type).then(list2KeyedMap(key));
+    }
+
+    public static <K, T> Translator<InputStream, Map<K, T>> inputStream2JsonKeyedMap(Class<T> type, Function<T, K> key) {
+        return inputStream2JsonKeyedMap(type, key, JSON_MAPPER);
+    }
+
+    public static <T> Translator<InputStream, Map<String, T>> inputStream2YamlObjectMap(Class<T> type, ObjectMapper mapper) {
+        return inputStream2ObjectMap(mapper, type);
+    }
+
+    public static <T> Translator<InputStream, Map<String, T>> inputStream2YamlObjectMap(Class<T> type) {
+        return inputStream2YamlObjectMap(type, YAML_MAPPER);
+    }
+
+    public static <K, T> Translator<InputStream, Map<K, T>> inputStream2YamlKeyedMap(Class<T> type, Function<T, K> key,
+                                                                                    ObjectMapper mapper) {
+        return inputStream2ObjectList(mapper, type).then(list2KeyedMap(key));
+    }
+
+    public static <K, T> Translator<InputStream, Map<K, T>> inputStream2YamlKeyedMap(Class<T> type, Function<T, K> key) {
+        return inputStream2YamlKeyedMap(type, key, YAML_MAPPER);
+    }
+
     public static Translator<InputStream, JsonNode> inputStream2Xml(ObjectMapper mapper) {
         return inputStream2Node(mapper);
     }
@@ -180,6 +296,135 @@ public abstract class TranslatorHelper {
         }, InputStream.class, (Class<List<T>>) (Class<?>) List.class);
     }
 
+    /**
+     * Parses the chunks on the given pool and merges the results in the original order.
+     *
+     * @param isElements whether the chunks are the element offset pairs, or the ranges of whitespace separated values
+     */
+    private static <T> List<T> parseParallel(byte[] data, List<int[]> chunks, boolean isElements, ObjectReader reader,
+                                             ForkJoinPool pool) {
+        var tasks = new ArrayList<ForkJoinTask<List<T>>>(chunks.size());
+        for (var chunk : chunks) {
+            tasks.add(pool.submit(() -> isElements ? parseElements(data, chunk, reader) : parseValues(data, chunk, reader)));
+        }
+        var result = new ArrayList<T>();
+        try {
+            for (var task : tasks) {
+                result.addAll(task.get());
+            }
+        } catch (ExecutionException e) {
+            tasks.forEach(t -> t.cancel(false));
+            throw wrap(unwrap(e.getCause()));
+        } catch (InterruptedException e) {
+            tasks.forEach(t -> t.cancel(false));
+            Thread.currentThread().interrupt();
+            throw wrap(e);
+        }
+        return result;
+    }
+
+    /**
+     * ForkJoinPool wraps the checked exceptions of the submitted tasks into plain RuntimeException, so the original
+     * parsing exception is dug out to be thrown the same way as by the sequential translators.
+     */
+    private static Throwable unwrap(Throwable t) {
+        while ((t.getClass() == RuntimeException.class || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    private static <T> List<T> parseElements(byte[] data, int[] elements, ObjectReader reader) throws IOException {
+        var result = new ArrayList<T>(elements.length / 2);
+        for (var i = 0; i < elements.length; i += 2) {
+            result.add(reader.readValue(data, elements[i], elements[i + 1] - elements[i]));
+        }
+        return result;
+    }
+
+    private static <T> List<T> parseValues(byte[] data, int[] range, ObjectReader reader) throws IOException {
+        var result = new ArrayList<T>();
+        try (MappingIterator<T> iterator = reader.readValues(data, range[0], range[1] - range[0])) {
+            while (iterator.hasNextValue()) {
+                result.add(iterator.nextValue());
+            }
+        }
+        return result;
+    }
+
+    private static <T> Translator<InputStream, Stream<T>> inputStream2ObjectStream(ObjectMapper mapper, Class<T> type) {
+        return define(s -> {
+            try {
+                MappingIterator<T> iterator = mapper.readerFor(type).readValues(s);
+                return closingStream(iterator, s);
+            } catch (IOException e) {
+                silentlyClose(s);
+                throw wrap(e);
+            }
+        }, InputStream.class, (Class<Stream<T>>) (Class<?>) Stream.class);
+    }
+
+    /**
+     * Wraps the iterator into a stream, which closes the source once all the elements are read, the reading failed,
+     * or the stream itself was closed.
+     */
+    private static <T> Stream<T> closingStream(MappingIterator<T> iterator, InputStream s) {
+        Runnable close = () -> {
+            try {
+                iterator.close();
+            } catch (IOException ignored) { }
+            silentlyClose(s);
+        };
+        var closingIterator = new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    if (iterator.hasNext()) {
+                        return true;
+                    }
+                } catch (RuntimeException e) {
+                    close.run();
+                    throw e;
+                }
+                close.run();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return iterator.next();
+                } catch (RuntimeException e) {
+                    close.run();
+                    throw e;
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(closingIterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(close);
+    }
+
+    private static <T> Translator<InputStream, Map<String, T>> inputStream2ObjectMap(ObjectMapper mapper, Class<T> type) {
+        return define(s -> {
+            try {
+                var t = mapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, type);
+                return mapper.readValue(s, t);
+            } catch (IOException e) {
+                throw wrap(e);
+            }
+        }, InputStream.class, (Class<Map<String, T>>) (Class<?>) Map.class);
+    }
+
+    private static <K, T> Translator<List<T>, Map<K, T>> list2KeyedMap(Function<T, K> key) {
+        return define(list -> {
+            var result = new LinkedHashMap<K, T>(list.size() * 4 / 3 + 1);
+            for (var item : list) {
+                result.put(key.apply(item), item);
+            }
+            return result;
+        }, (Class<List<T>>) (Class<?>) List.class, (Class<Map<K, T>>) (Class<?>) Map.class);
+    }
+
     private static Translator<InputStream, JsonNode> inputStream2Node(ObjectMapper mapper) {
         return define(s -> {
             try {
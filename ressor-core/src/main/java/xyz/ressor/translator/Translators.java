@@ -5,8 +5,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -124,6 +129,61 @@ public final class Translators {
         return TranslatorHelper.inputStream2YamlObjectList(entityType, mapper);
     }
 
+    /**
+     * Same as {@link #yamlList(Class)}, but providing the elements lazily as a {@link Stream}, while they are parsed,
+     * so that the whole list is never kept in memory. The {@link Stream} must be consumed inside the service factory.
+     * <p/>
+     * The source data is closed once all the elements are read or the {@link Stream} is closed.
+     *
+     * @param entityType the target type class
+     */
+    public static <T> Translator<InputStream, Stream<T>> yamlStream(Class<T> entityType) {
+        return TranslatorHelper.inputStream2YamlObjectStream(entityType);
+    }
+
+    /**
+     * See {@link #yamlStream(Class)}.
+     */
+    public static <T> Translator<InputStream, Stream<T>> yamlStream(Class<T> entityType, ObjectMapper mapper) {
+        return TranslatorHelper.inputStream2YamlObjectStream(entityType, mapper);
+    }
+
+    /**
+     * Expect YAML object from the source, will provide {@link java.util.Map} of its fields converted to valueType class
+     * instances to the service factory, preserving the order of the fields.
+     *
+     * @param valueType the target type class
+     */
+    public static <T> Translator<InputStream, Map<String, T>> yamlMap(Class<T> valueType) {
+        return TranslatorHelper.inputStream2YamlObjectMap(valueType);
+    }
+
+    /**
+     * See {@link #yamlMap(Class)}.
+     */
+    public static <T> Translator<InputStream, Map<String, T>> yamlMap(Class<T> valueType, ObjectMapper mapper) {
+        return TranslatorHelper.inputStream2YamlObjectMap(valueType, mapper);
+    }
+
+    /**
+     * Expect YAML array from the source, will provide {@link java.util.Map} of its elements converted to valueType class
+     * instances and keyed by the given function to the service factory, preserving the order of the elements.
+     * The later element wins if several elements have the same key.
+     *
+     * @param valueType the target type class
+     * @param key the element key extractor
+     */
+    public static <K, T> Translator<InputStream, Map<K, T>> yamlMap(Class<T> valueType, Function<T, K> key) {
+        return TranslatorHelper.inputStream2YamlKeyedMap(valueType, key);
+    }
+
+    /**
+     * See {@link #yamlMap(Class, Function)}.
+     */
+    public static <K, T> Translator<InputStream, Map<K, T>> yamlMap(Class<T> valueType, Function<T, K> key, ObjectMapper mapper) {
+        return TranslatorHelper.inputStream2YamlKeyedMap(valueType, key, mapper);
+    }
+
     /**
      * Expect YAML data format from the source, will provide {@link com.fasterxml.jackson.core.JsonParser} instance
      * to the service factory.
@@ -186,6 +246,103 @@ public final class Translators {
         return TranslatorHelper.inputStream2JsonObjectList(entityType, mapper);
     }
 
+    /**
+     * Same as {@link #jsonList(Class)}, but the elements are parsed in parallel on {@link ForkJoinPool#commonPool()}.
+     * <p/>
+     * The whole content is read into memory first and split into chunks of the top level array elements, which are
+     * parsed independently and merged in the original order. Makes sense for large arrays of many small elements.
+     * <p/>
+     * As the content is held in a single byte array, it's limited to 2 GB, and both the raw content and the parsed
+     * elements are kept on the heap until the parsing is finished.
+     *
+     * @param entityType the target type class
+     */
+    public static <T> Translator<InputStream, List<T>> parallelJsonList(Class<T> entityType) {
+        return TranslatorHelper.inputStream2JsonObjectListParallel(entityType);
+    }
+
+    /**
+     * See {@link #parallelJsonList(Class)}.
+     */
+    public static <T> Translator<InputStream, List<T>> parallelJsonList(Class<T> entityType, ObjectMapper mapper, ForkJoinPool pool) {
+        return TranslatorHelper.inputStream2JsonObjectListParallel(entityType, mapper, pool);
+    }
+
+    /**
+     * Expect newline delimited JSON values (JSON Lines) from the source, will provide {@link java.util.List<T>} of entityType
+     * class instances to the service factory. The lines are parsed in parallel on {@link ForkJoinPool#commonPool()}, in
+     * chunks, which are merged in the original order.
+     * <p/>
+     * The whole content is read into memory first, so the same 2 GB limit as of {@link #parallelJsonList(Class)} applies.
+     *
+     * @param entityType the target type class
+     */
+    public static <T> Translator<InputStream, List<T>> parallelJsonLines(Class<T> entityType) {
+        return TranslatorHelper.inputStream2JsonLinesParallel(entityType);
+    }
+
+    /**
+     * See {@link #parallelJsonLines(Class)}.
+     */
+    public static <T> Translator<InputStream, List<T>> parallelJsonLines(Class<T> entityType, ObjectMapper mapper, ForkJoinPool pool) {
+        return TranslatorHelper.inputStream2JsonLinesParallel(entityType, mapper, pool);
+    }
+
+    /**
+     * Same as {@link #jsonList(Class)}, but providing the elements lazily as a {@link Stream}, while they are parsed,
+     * so that the whole list is never kept in memory. The {@link Stream} must be consumed inside the service factory.
+     * <p/>
+     * The source data is closed once all the elements are read or the {@link Stream} is closed.
+     *
+     * @param entityType the target type class
+     */
+    public static <T> Translator<InputStream, Stream<T>> jsonStream(Class<T> entityType) {
+        return TranslatorHelper.inputStream2JsonObjectStream(entityType);
+    }
+
+    /**
+     * See {@link #jsonStream(Class)}.
+     */
+    public static <T> Translator<InputStream, Stream<T>> jsonStream(Class<T> entityType, ObjectMapper mapper) {
+        return TranslatorHelper.inputStream2JsonObjectStream(entityType, mapper);
+    }
+
+    /**
+     * Expect JSON object from the source, will provide {@link java.util.Map} of its fields converted to valueType class
+     * instances to the service factory, preserving the order of the fields.
+     *
+     * @param valueType the target type class
+     */
+    public static <T> Translator<InputStream, Map<String, T>> jsonMap(Class<T> valueType) {
+        return TranslatorHelper.inputStream2JsonObjectMap(valueType);
+    }
+
+    /**
+     * See {@link #jsonMap(Class)}.
+     */
+    public static <T> Translator<InputStream, Map<String, T>> jsonMap(Class<T> valueType, ObjectMapper mapper) {
+        return TranslatorHelper.inputStream2JsonObjectMap(valueType, mapper);
+    }
+
+    /**
+     * Expect JSON array from the source, will provide {@link java.util.Map} of its elements converted to valueType class
+     * instances and keyed by the given function to the service factory, preserving the order of the elements.
+     * The later element wins if several elements have the same key.
+     *
+     * @param valueType the target type class
+     * @param key the element key extractor
+     */
+    public static <K, T> Translator<InputStream, Map<K, T>> jsonMap(Class<T> valueType, Function<T, K> key) {
+        return TranslatorHelper.inputStream2JsonKeyedMap(valueType, key);
+    }
+
+    /**
+     * See {@link #jsonMap(Class, Function)}.
+     */
+    public static <K, T> Translator<InputStream, Map<K, T>> jsonMap(Class<T> valueType, Function<T, K> key, ObjectMapper mapper) {
+        return TranslatorHelper.inputStream2JsonKeyedMap(valueType, key, mapper);
+    }
+
     /**
      * Expect JSON data format from the source, will provide {@link com.fasterxml.jackson.core.JsonParser} instance
      * to the service factory.
@@ -208,6 +365,28 @@ public final class Translators {
         return TranslatorHelper.inputStream2Bytes();
     }
 
+    /**
+     * Passes the source data to the service factory as a read-only {@link ByteBuffer}. If the source already holds the
+     * data in memory, like the memory mapped files or the small Git blobs, it's passed without copying.
+     */
+    public static Translator<InputStream, ByteBuffer> byteBuffer() {
+        return TranslatorHelper.inputStream2ByteBuffer();
+    }
+
+    /**
+     * Reads the source data into a direct buffer outside of the heap, which is passed to the service factory as
+     * {@link OffHeapPayload}. If the service has a retirement hook, see {@link xyz.ressor.RessorBuilder#onRetire}, Ressor
+     * releases the payload explicitly once all the calls to the instance created from it are completed, so the factory
+     * may keep it in the instance, but must not leak it outside. Otherwise the payload is released by the garbage
+     * collector.
+     * <p/>
+     * Makes sense for the services keeping large raw data, which would otherwise require huge heap allocations on every
+     * reload.
+     */
+    public static Translator<InputStream, OffHeapPayload> offHeap() {
+        return TranslatorHelper.inputStream2OffHeap();
+    }
+
     /**
      * Read the source data as a single string and pass it to the service factory as a String.
      */
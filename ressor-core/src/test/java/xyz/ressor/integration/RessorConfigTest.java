@@ -1,6 +1,7 @@
 package xyz.ressor.integration;
 
 import org.junit.jupiter.api.Test;
+import xyz.ressor.config.PollingScheduler;
 import xyz.ressor.config.RessorConfig;
 
 import java.util.concurrent.ForkJoinPool;
@@ -20,6 +21,8 @@ public class RessorConfigTest {
         assertThat(nrc.threadPool()).isNull();
         assertThat(nrc.pollingThreads()).isEqualTo(Runtime.getRuntime().availableProcessors());
         assertThat(nrc.isCacheClasses()).isTrue();
+        assertThat(nrc.pollingScheduler()).isEqualTo(PollingScheduler.QUARTZ);
+        assertThat(nrc.pollingTickMillis()).isEqualTo(10);
 
         rc.threadPool(ForkJoinPool.commonPool());
 
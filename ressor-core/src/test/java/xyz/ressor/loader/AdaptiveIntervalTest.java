@@ -0,0 +1,38 @@
+package xyz.ressor.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveIntervalTest {
+
+    @Test
+    public void testBackOff() {
+        var interval = new AdaptiveInterval(Duration.ofSeconds(1), Duration.ofSeconds(5));
+        assertThat(interval.current()).isEqualTo(Duration.ofSeconds(1));
+
+        assertThat(interval.next(false)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(interval.next(false)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(interval.next(false)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(interval.next(false)).isEqualTo(Duration.ofSeconds(5));
+
+        assertThat(interval.next(true)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(interval.next(false)).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void testBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveInterval(Duration.ZERO, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveInterval(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+
+        var interval = new AdaptiveInterval(Duration.ofMillis(1), Duration.ofDays(1_000_000));
+        for (var i = 0; i < 100; i++) {
+            interval.next(false);
+        }
+        assertThat(interval.current()).isEqualTo(interval.max());
+    }
+
+}
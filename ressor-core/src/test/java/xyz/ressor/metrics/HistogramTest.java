@@ -0,0 +1,39 @@
+package xyz.ressor.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HistogramTest {
+
+    @Test
+    public void testBuckets() {
+        for (var value : new long[] { 0, 1, 2, 3, 4, 5, 6, 7, 100, 1_000_000, Long.MAX_VALUE / 3, Long.MAX_VALUE }) {
+            var index = Histogram.index(value);
+            assertThat(index).isBetween(0, Histogram.BUCKETS - 1);
+            assertThat(Histogram.upperBound(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || Histogram.upperBound(index - 1) < value).isTrue();
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        var histogram = new Histogram();
+        assertThat(histogram.percentile(0.99)).isEqualTo(0);
+
+        for (var i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+
+        assertThat(histogram.count()).isEqualTo(101);
+        assertThat(histogram.sum()).isEqualTo(5050);
+        assertThat(histogram.max()).isEqualTo(100);
+        assertThat(histogram.percentile(0.5)).isBetween(50L, 75L);
+        assertThat(histogram.percentile(0.9)).isBetween(90L, 100L);
+        assertThat(histogram.percentile(1)).isEqualTo(100);
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.5));
+    }
+
+}
@@ -1,16 +1,50 @@
 package xyz.ressor.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import xyz.ressor.Ressor;
+import xyz.ressor.commons.exceptions.RessorBuilderException;
+import xyz.ressor.commons.utils.Exceptions;
+import xyz.ressor.config.PollingScheduler;
+import xyz.ressor.config.RessorConfig;
+import xyz.ressor.loader.PollingServiceLoader;
+import xyz.ressor.metrics.ReloadOutcome;
+import xyz.ressor.metrics.ServiceMetrics;
+import xyz.ressor.service.proxy.RessorServiceImpl;
+import xyz.ressor.source.LoadedResource;
+import xyz.ressor.source.NonListenableSource;
+import xyz.ressor.source.ResourceId;
+import xyz.ressor.source.SourceVersion;
+import xyz.ressor.translator.OffHeapPayload;
 
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static xyz.ressor.service.proxy.StateVariables.LOADER;
+import static xyz.ressor.translator.Translators.jsonMap;
+import static xyz.ressor.translator.Translators.offHeap;
 import static xyz.ressor.translator.Translators.string;
-import static xyz.ressor.utils.TestUtils.stringBuilderSource;
+import static xyz.ressor.utils.TestUtils.*;
 
 @TestInstance(TestInstance.Lifecycle.PER_METHOD)
 public class RessorTest {
@@ -36,4 +70,743 @@ public class RessorTest {
         await().atMost(10, TimeUnit.SECONDS).until(() -> string.equals("reload async"));
     }
 
+    @Test
+    public void testSnapshots() {
+        var sb1 = new StringBuilder("a1");
+        var sb2 = new StringBuilder("b1");
+        var s1 = stringBuilderSource(sb1, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())).build();
+        var s2 = stringBuilderSource(sb2, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())).build();
+        ressor.reload(s1);
+        ressor.reload(s2);
+
+        var raw = ressor.snapshot(s1);
+
+        assertThat(raw).isInstanceOf(String.class).isEqualTo("a1");
+
+        try (var snapshot = ressor.pin(s1, s2)) {
+            sb1.append("-2");
+            sb2.append("-2");
+            ressor.reload(s1);
+            ressor.reload(s2);
+
+            assertThat(snapshot.get(s1)).isEqualTo("a1");
+            assertThat(snapshot.get(s2)).isEqualTo("b1");
+            assertThat(s1).isEqualTo("a1-2");
+            assertThat(s2).isEqualTo("b1-2");
+            assertThat(raw).isEqualTo("a1");
+            assertThrows(IllegalArgumentException.class, () -> snapshot.get("not pinned"));
+
+            snapshot.close();
+
+            assertThrows(IllegalStateException.class, () -> snapshot.get(s1));
+        }
+    }
+
+    @Test
+    public void testSnapshotDelaysRetirement() {
+        var sb = new StringBuilder("first");
+        var retired = new ArrayList<CharSequence>();
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())
+                .onRetire(retired::add)).build();
+
+        var snapshot = ressor.pin(string);
+        sb.replace(0, sb.length(), "second");
+        ressor.reload(string);
+        sb.replace(0, sb.length(), "third");
+        ressor.reload(string);
+
+        assertThat(string.toString()).isEqualTo("third");
+        assertThat(snapshot.get(string)).isEqualTo("first");
+        assertThat(retired).extracting(Object::toString).containsExactly("second");
+
+        snapshot.close();
+        snapshot.close();
+
+        assertThat(retired).extracting(Object::toString).containsExactly("second", "first");
+    }
+
+    @Test
+    public void testReloadCoalescing() {
+        var loads = new AtomicInteger();
+        var data = new AtomicReference<>("v0");
+        var barrier = new AtomicReference<>(new CountDownLatch(0));
+        var source = new NonListenableSource() {
+            @Override
+            public String id() {
+                return null;
+            }
+
+            @Override
+            public LoadedResource loadIfModified(ResourceId resourceId, SourceVersion version) {
+                loads.incrementAndGet();
+                try {
+                    barrier.get().await();
+                } catch (InterruptedException e) {
+                    throw Exceptions.wrap(e);
+                }
+                return stringVersioned(data.get());
+            }
+
+            @Override
+            public String describe() {
+                return "";
+            }
+        };
+        var string = ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())
+                .source(source)
+                .resource(matching(source))
+                .build();
+
+        assertThat(string).isEqualTo("v0");
+
+        var latch = new CountDownLatch(1);
+        barrier.set(latch);
+        ressor.scheduleReload(string);
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> loads.get() == 2);
+
+        barrier.set(new CountDownLatch(0));
+        ressor.scheduleReload(string);
+        ressor.scheduleReload(string);
+        ressor.scheduleReload(string);
+        data.set("v1");
+        latch.countDown();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> loads.get() == 3 && string.equals("v1"));
+
+        ressor.reload(string);
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void testForcedReloadDuringScheduledOne() {
+        var sb = new StringBuilder("first");
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory((String s) -> {
+                    if (s.equals("slow")) {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            throw Exceptions.wrap(e);
+                        }
+                    }
+                    return s;
+                })).build();
+
+        sb.replace(0, sb.length(), "slow");
+        ressor.scheduleReload(string);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> entered.getCount() == 0);
+
+        sb.replace(0, sb.length(), "fast");
+        // doesn't wait for the scheduled reload, which is blocked until released
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> ressor.reload(string));
+
+        assertThat(string).isEqualTo("fast");
+
+        release.countDown();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !ressorService(string).isReloading());
+        assertThat(string).isEqualTo("fast");
+    }
+
+    @Test
+    public void testReloadBuildsOutsideOfLock() throws Exception {
+        var latch = new CountDownLatch(1);
+        var string = stubSource(ressor.service(CharSequence.class)
+                .translator(string())
+                .factory((String s) -> {
+                    if (s.equals("slow")) {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            throw Exceptions.wrap(e);
+                        }
+                    }
+                    return s;
+                })).build();
+        RessorService<CharSequence> service = ressorService(string);
+
+        var slow = CompletableFuture.supplyAsync(() -> service.reload(stringVersioned("slow"), true));
+        await().atMost(10, TimeUnit.SECONDS).until(service::isReloading);
+
+        assertThat(service.reload(stringVersioned("skipped"))).isFalse();
+        assertThat(service.reload(stringVersioned("fast"), true)).isTrue();
+        assertThat(string).isEqualTo("fast");
+
+        latch.countDown();
+
+        assertThat(slow.get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(string).isEqualTo("fast");
+        assertThat(service.latestVersion().<String>val()).isEqualTo("fast");
+    }
+
+    @Test
+    public void testContentDigest() {
+        var created = new AtomicInteger();
+        var string = stubSource(ressor.service(CharSequence.class)
+                .translator(string())
+                .factory((String s) -> {
+                    created.incrementAndGet();
+                    return s;
+                })
+                .contentDigest()).build();
+        RessorService<CharSequence> service = ressorService(string);
+        var rs = (RessorServiceImpl<CharSequence, String>) service.unwrap();
+
+        assertThat(service.reload(stringVersioned("data", 1))).isTrue();
+        var digest = rs.latestDigest();
+        assertThat(digest).hasSize(32);
+
+        assertThat(service.reload(stringVersioned("data", 2))).isFalse();
+        assertThat(service.latestVersion().<Integer>val()).isEqualTo(2);
+        assertThat(rs.latestDigest()).isEqualTo(digest);
+        assertThat(created.get()).isEqualTo(2);
+
+        assertThat(service.reload(stringVersioned("new data", 3))).isTrue();
+        assertThat(string).isEqualTo("new data");
+        assertThat(rs.latestDigest()).isNotEqualTo(digest);
+        assertThat(created.get()).isEqualTo(3);
+
+        assertThrows(RessorBuilderException.class, () -> ressor.service(CharSequence.class).contentDigest("UNKNOWN"));
+    }
+
+    @Test
+    public void testIncrementalFactory() {
+        var sb = new StringBuilder("[{\"id\": \"a\", \"v\": 1}, {\"id\": \"b\", \"v\": 1}]");
+        var deltas = new ArrayList<Delta<String, JsonNode>>();
+        var keys = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(jsonMap(JsonNode.class, n -> n.get("id").asText()))
+                .incrementalFactory((CharSequence previous, Delta<String, JsonNode> delta) -> {
+                    deltas.add(delta);
+                    return (previous == null ? "" : previous + ";") + delta;
+                })).build();
+
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).added()).containsOnlyKeys("a", "b");
+        assertThat(deltas.get(0).removed()).isEmpty();
+
+        sb.setLength(0);
+        sb.append("[{\"id\": \"b\", \"v\": 2}, {\"id\": \"c\", \"v\": 1}]");
+        ressor.reload(keys);
+
+        assertThat(deltas).hasSize(2);
+        var delta = deltas.get(1);
+        assertThat(delta.added()).containsOnlyKeys("c");
+        assertThat(delta.removed()).containsOnlyKeys("a");
+        assertThat(delta.changed()).containsOnlyKeys("b");
+        assertThat(delta.changed().get("b").get("v").asInt()).isEqualTo(2);
+        assertThat(delta.current()).containsOnlyKeys("b", "c");
+        assertThat(keys.toString()).isEqualTo(deltas.get(0) + ";" + delta);
+
+        ressor.reload(keys);
+
+        assertThat(deltas.get(2).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testDiscardedIncrementalPublish() {
+        var a = "[{\"id\": \"a\"}]";
+        var ab = "[{\"id\": \"a\"}, {\"id\": \"b\"}]";
+        var interleaved = new AtomicReference<Runnable>();
+        var keys = stringBuilderSource(new StringBuilder(a), ressor.service(CharSequence.class)
+                .translator(jsonMap(JsonNode.class, n -> n.get("id").asText()))
+                .contentDigest()
+                .incrementalFactory((CharSequence previous, Delta<String, JsonNode> delta) -> {
+                    var reload = interleaved.getAndSet(null);
+                    if (reload != null) {
+                        reload.run();
+                    }
+                    var result = new TreeSet<String>();
+                    if (previous != null && previous.length() > 0) {
+                        result.addAll(List.of(previous.toString().split(",")));
+                    }
+                    result.addAll(delta.added().keySet());
+                    result.removeAll(delta.removed().keySet());
+                    return String.join(",", result);
+                })).build();
+        RessorService<CharSequence> service = ressorService(keys);
+
+        assertThat(keys.toString()).isEqualTo("a");
+
+        // the unchanged content is published by a later reload while the delta is being applied
+        interleaved.set(() -> assertThat(service.reload(stringVersioned(a), true)).isFalse());
+
+        assertThat(service.reload(stringVersioned(ab), true)).isFalse();
+        assertThat(keys.toString()).isEqualTo("a");
+
+        assertThat(service.reload(stringVersioned(ab), true)).isTrue();
+        assertThat(keys.toString()).isEqualTo("a,b");
+    }
+
+    @Test
+    public void testIncrementalFactoryValidation() {
+        assertThrows(RessorBuilderException.class, () -> stubSource(ressor.service(CharSequence.class)
+                .translator(string())
+                .incrementalFactory((CharSequence previous, Delta<String, String> delta) -> previous)).build());
+        assertThrows(RessorBuilderException.class, () -> stubSource(ressor.service(CharSequence.class)
+                .translator(jsonMap(String.class))
+                .factory(Object::toString)
+                .incrementalFactory((CharSequence previous, Delta<String, String> delta) -> previous)).build());
+    }
+
+    @Test
+    public void testOffHeapPayloadRelease() {
+        var sb = new StringBuilder("first");
+        var payloads = new ArrayList<OffHeapPayload>();
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(offHeap())
+                .factory((OffHeapPayload p) -> {
+                    payloads.add(p);
+                    return UTF_8.decode(p.buffer()).toString();
+                })
+                .onRetire(s -> {})).build();
+
+        sb.replace(0, sb.length(), "second");
+        ressor.reload(string);
+
+        assertThat(payloads).extracting(OffHeapPayload::isReleased).containsExactly(true, false);
+
+        sb.replace(0, sb.length(), "third");
+        ressor.reload(string);
+
+        assertThat(string.toString()).isEqualTo("third");
+        assertThat(payloads).extracting(OffHeapPayload::isReleased).containsExactly(true, true, false);
+
+        var untracked = new ArrayList<OffHeapPayload>();
+        var gcString = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(offHeap())
+                .factory((OffHeapPayload p) -> {
+                    untracked.add(p);
+                    return UTF_8.decode(p.buffer()).toString();
+                })).build();
+        ressor.reload(gcString);
+        ressor.reload(gcString);
+
+        // nothing tells when the calls to the replaced instances are over, so they are left to the garbage collector
+        assertThat(untracked).hasSize(3).noneMatch(OffHeapPayload::isReleased);
+    }
+
+    @Test
+    public void testOffHeapPayloadOfSnapshot() {
+        var sb = new StringBuilder("first");
+        var untracked = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(offHeap())
+                .factory(PayloadString::new)).build();
+        var snapshot = ressor.snapshot(untracked);
+
+        sb.replace(0, sb.length(), "second");
+        ressor.reload(untracked);
+        sb.replace(0, sb.length(), "third");
+        ressor.reload(untracked);
+
+        assertThat(untracked.toString()).isEqualTo("third");
+        assertThat(snapshot.toString()).isEqualTo("first");
+
+        sb.replace(0, sb.length(), "first");
+        var tracked = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(offHeap())
+                .factory(PayloadString::new)
+                .onRetire(s -> {})).build();
+
+        assertThrows(IllegalStateException.class, () -> ressor.snapshot(tracked));
+
+        var pinned = ressor.pin(tracked);
+        var payload = ((PayloadString) pinned.get(tracked)).payload;
+        sb.replace(0, sb.length(), "second");
+        ressor.reload(tracked);
+        sb.replace(0, sb.length(), "third");
+        ressor.reload(tracked);
+
+        assertThat(tracked.toString()).isEqualTo("third");
+        assertThat(pinned.get(tracked).toString()).isEqualTo("first");
+
+        pinned.close();
+
+        assertThat(payload.isReleased()).isTrue();
+    }
+
+    @Test
+    public void testRetirementAfterCallsDrain() throws Exception {
+        var sb = new StringBuilder("first");
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var retired = new ArrayList<CharSequence>();
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory((String s) -> new BlockingString(s, entered, release))
+                .onRetire(retired::add)).build();
+
+        var call = CompletableFuture.supplyAsync(string::length);
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        sb.replace(0, sb.length(), "second");
+        ressor.reload(string);
+
+        assertThat(string.toString()).isEqualTo("second");
+        assertThat(retired).isEmpty();
+
+        release.countDown();
+
+        assertThat(call.get(10, TimeUnit.SECONDS)).isEqualTo(5);
+        assertThat(retired).extracting(Object::toString).containsExactly("first");
+
+        assertThrows(RessorBuilderException.class, () -> stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())
+                .constantDispatch()
+                .closeOnRetire()).build());
+    }
+
+    @Test
+    public void testConstantDispatchTargetSwap() {
+        var sb = new StringBuilder("first");
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())
+                .constantDispatch()).build();
+
+        for (var i = 0; i < 5; i++) {
+            sb.replace(0, sb.length(), "value" + i);
+            ressor.reload(string);
+
+            assertThat(string.toString()).isEqualTo("value" + i);
+            assertThat(string.length()).isEqualTo(6);
+        }
+
+        assertThrows(StringIndexOutOfBoundsException.class, () -> string.charAt(10));
+    }
+
+    @Test
+    public void testProxyConstructorExceptions() {
+        var e = assertThrows(InvocationTargetException.class, () -> stringBuilderSource(new StringBuilder(),
+                ressor.service(FailingService.class)
+                .translator(string())
+                .factory(s -> null)
+                .proxyDefaultArguments(new IllegalStateException("failed"))).build());
+
+        assertThat(e.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+        var error = new AssertionError("error");
+
+        assertThat(assertThrows(InvocationTargetException.class, () -> stringBuilderSource(new StringBuilder(),
+                ressor.service(FailingService.class)
+                .translator(string())
+                .factory(s -> null)
+                .proxyDefaultArguments(error)).build()).getCause()).isSameAs(error);
+    }
+
+    @Test
+    public void testReloadMetrics() {
+        var sb = new StringBuilder("first");
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())
+                .contentDigest()).build();
+        var metrics = ressor.metrics().of(string);
+
+        assertThat(ressor.metrics().services()).contains(metrics);
+        assertThat(metrics.count(ReloadOutcome.CHANGED)).isEqualTo(1);
+        assertThat(metrics.versionAgeMillis()).isGreaterThanOrEqualTo(0);
+
+        ressor.reload(string);
+        sb.replace(0, sb.length(), "second");
+        ressor.reload(string);
+
+        assertThat(metrics.reloads()).isEqualTo(3);
+        assertThat(metrics.count(ReloadOutcome.CHANGED)).isEqualTo(2);
+        assertThat(metrics.count(ReloadOutcome.NOT_MODIFIED)).isEqualTo(1);
+        assertThat(metrics.lastOutcome()).isEqualTo(ReloadOutcome.CHANGED);
+        assertThat(metrics.loadTime().count()).isEqualTo(3);
+        assertThat(metrics.translateTime().count()).isEqualTo(3);
+        assertThat(metrics.factoryTime().count()).isEqualTo(2);
+        assertThat(metrics.swapTime().count()).isEqualTo(3);
+        assertThat(metrics.bytesRead().sum()).isEqualTo("firstfirstsecond".length());
+
+        var failing = new AtomicReference<Boolean>(false);
+        var broken = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(s -> {
+                    if (failing.get()) {
+                        throw new IllegalStateException(s);
+                    }
+                    return s;
+                })).build();
+        failing.set(true);
+
+        assertThrows(IllegalStateException.class, () -> ressor.reload(broken));
+        assertThat(ressor.metrics().of(broken).lastOutcome()).isEqualTo(ReloadOutcome.ERROR);
+    }
+
+    @Test
+    public void testReloadEvents() throws Exception {
+        var file = Files.createTempFile("ressor", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("xyz.ressor.Reload");
+            recording.enable("xyz.ressor.ProxyBuild");
+            recording.start();
+
+            var sb = new StringBuilder("first");
+            var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                    .translator(string())
+                    .factory(Function.identity())).build();
+            sb.append("-2");
+            ressor.reload(string);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        var events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("xyz.ressor.ProxyBuild"))
+                .extracting(e -> e.getClass("serviceType").getName())
+                .containsExactly(CharSequence.class.getName());
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("xyz.ressor.Reload"))
+                .allMatch(e -> e.getString("outcome").equals("CHANGED") && e.getBoolean("forced"))
+                .extracting(e -> e.getLong("bytesRead"))
+                .containsExactlyInAnyOrder(5L, 7L);
+    }
+
+    @Test
+    public void testTimerWheelPolling() {
+        var wheelRessor = Ressor.create(new RessorConfig().pollingScheduler(PollingScheduler.TIMER_WHEEL));
+        try {
+            var sb = new StringBuilder("first");
+            var string = stringBuilderSource(sb, wheelRessor.service(CharSequence.class)
+                    .translator(string())
+                    .factory(Function.identity())).build();
+            var metrics = wheelRessor.metrics().of(string);
+            var clock = pollingClock(wheelRessor, 20);
+            wheelRessor.poll(string).every(20, TimeUnit.MILLISECONDS);
+
+            sb.replace(0, sb.length(), "second");
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> string.toString().equals("second"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> metrics.polls() >= 3);
+
+            wheelRessor.stop(string);
+            // let the tick, which might be firing right now, and the reload it has submitted complete
+            var stopPolls = clock.polls();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> clock.polls() > stopPolls && metrics.reloadsInProgress() == 0);
+            var polls = metrics.polls();
+            sb.replace(0, sb.length(), "third");
+
+            // the same schedule keeps going for another service, so the stopped one has missed a few of them
+            var clockPolls = clock.polls();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> clock.polls() >= clockPolls + 5);
+
+            assertThat(metrics.polls()).isEqualTo(polls);
+            assertThat(string.toString()).isEqualTo("second");
+        } finally {
+            wheelRessor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimerWheelPollingOfWholeTurns() {
+        var wheelRessor = Ressor.create(new RessorConfig()
+                .pollingScheduler(PollingScheduler.TIMER_WHEEL)
+                .pollingTickMillis(1));
+        try {
+            var sb = new StringBuilder("first");
+            var string = stringBuilderSource(sb, wheelRessor.service(CharSequence.class)
+                    .translator(string())
+                    .factory(Function.identity())).build();
+            var metrics = wheelRessor.metrics().of(string);
+            // an eighth of the wheel turn, counting the turns of the same wheel
+            var clock = pollingClock(wheelRessor, 64);
+            // exactly one turn of the 512 buckets wheel
+            wheelRessor.poll(string).every(512, TimeUnit.MILLISECONDS);
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> clock.polls() >= 4);
+            assertThat(metrics.polls()).isZero();
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> metrics.polls() >= 2);
+            // two turns are sixteen clock polls, less the ones fired at the same tick and still running
+            assertThat(clock.polls()).isGreaterThanOrEqualTo(14);
+        } finally {
+            wheelRessor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAdaptivePolling() {
+        testAdaptivePolling(ressor);
+    }
+
+    @Test
+    public void testTimerWheelAdaptivePolling() {
+        var wheelRessor = Ressor.create(new RessorConfig().pollingScheduler(PollingScheduler.TIMER_WHEEL));
+        try {
+            testAdaptivePolling(wheelRessor);
+        } finally {
+            wheelRessor.shutdown();
+        }
+    }
+
+    private void testAdaptivePolling(Ressor ressor) {
+        var sb = new StringBuilder("first");
+        var string = stringBuilderSource(sb, ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())
+                .contentDigest()).build();
+        var metrics = ressor.metrics().of(string);
+        ressor.poll(string).adaptive(Duration.ofMillis(10), Duration.ofMillis(160));
+        var loader = (PollingServiceLoader) ((RessorServiceImpl<?, ?>) ressorService(string).unwrap()).state(LOADER);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> metrics.count(ReloadOutcome.NOT_MODIFIED) >= 5);
+        // the interval has backed off to the maximum, and stays there
+        await().atMost(5, TimeUnit.SECONDS).until(() -> loader.interval().equals(Duration.ofMillis(160)));
+        var polls = metrics.polls();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> metrics.polls() >= polls + 2);
+        assertThat(loader.interval()).isEqualTo(Duration.ofMillis(160));
+
+        sb.replace(0, sb.length(), "second");
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> string.toString().equals("second"));
+        ressor.stop(string);
+    }
+
+    /**
+     * Polls an unchanging service, so that its poll count measures the time in the scheduler ticks.
+     */
+    private ServiceMetrics pollingClock(Ressor ressor, int everyMillis) {
+        var clock = stringBuilderSource(new StringBuilder("clock"), ressor.service(CharSequence.class)
+                .translator(string())
+                .factory(Function.identity())).build();
+        ressor.poll(clock).every(everyMillis, TimeUnit.MILLISECONDS);
+        return ressor.metrics().of(clock);
+    }
+
+    @Test
+    public void testJmxBeans() throws Exception {
+        var jmxRessor = Ressor.create(new RessorConfig().jmxEnabled(true));
+        var server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            var sb = new StringBuilder("first");
+            var string = stringBuilderSource(sb, jmxRessor.service(CharSequence.class)
+                    .translator(string())
+                    .factory(Function.identity())).build();
+            var names = server.queryNames(new ObjectName("xyz.ressor:type=Service,ressor=" +
+                    jmxRessor.jmx().getName() + ",*"), null);
+            assertThat(names).hasSize(1);
+            var name = names.iterator().next();
+
+            assertThat(server.getAttribute(jmxRessor.jmx().objectName(), "ServiceCount")).isEqualTo(1);
+            assertThat(server.getAttribute(name, "ServiceType")).isEqualTo(CharSequence.class.getName());
+            assertThat(server.getAttribute(name, "LatestVersion")).isEqualTo("first");
+            assertThat(server.getAttribute(name, "LoadingMode")).isEqualTo("none");
+
+            sb.replace(0, sb.length(), "second");
+            server.invoke(name, "reload", null, null);
+
+            assertThat(string.toString()).isEqualTo("second");
+            assertThat(server.getAttribute(name, "LatestVersion")).isEqualTo("second");
+            assertThat(server.getAttribute(name, "ReloadCount")).isEqualTo(2L);
+            assertThat(server.getAttribute(name, "FailureCount")).isEqualTo(0L);
+            assertThat((double) server.getAttribute(name, "LastReloadMillis")).isGreaterThan(0);
+
+            server.invoke(name, "pollEvery", new Object[] { 60_000L }, new String[] { long.class.getName() });
+
+            assertThat(server.getAttribute(name, "LoadingMode")).isEqualTo("polling");
+            assertThat(server.getAttribute(name, "PollIntervalMillis")).isEqualTo(60_000L);
+
+            server.invoke(name, "stop", null, null);
+
+            assertThat(server.getAttribute(name, "LoadingMode")).isEqualTo("none");
+        } finally {
+            jmxRessor.shutdown();
+        }
+        assertThat(server.queryNames(new ObjectName("xyz.ressor:*,ressor=" + jmxRessor.jmx().getName()), null))
+                .isEmpty();
+    }
+
+    private static class PayloadString implements CharSequence {
+        private final OffHeapPayload payload;
+
+        private PayloadString(OffHeapPayload payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return UTF_8.decode(payload.buffer()).toString();
+        }
+    }
+
+    public static class FailingService {
+
+        public FailingService(Throwable failure) {
+            throw Exceptions.wrap(failure);
+        }
+
+    }
+
+    private static class BlockingString implements CharSequence {
+        private final String value;
+        private final CountDownLatch entered;
+        private final CountDownLatch release;
+
+        private BlockingString(String value, CountDownLatch entered, CountDownLatch release) {
+            this.value = value;
+            this.entered = entered;
+            this.release = release;
+        }
+
+        @Override
+        public int length() {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw Exceptions.wrap(e);
+            }
+            return value.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return value.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return value.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
 }
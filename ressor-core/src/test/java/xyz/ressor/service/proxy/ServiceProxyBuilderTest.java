@@ -2,14 +2,26 @@ package xyz.ressor.service.proxy;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonNode;
+import net.bytebuddy.dynamic.DynamicType;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import xyz.ressor.commons.exceptions.TypeDefinitionException;
+import xyz.ressor.ext.ServiceExtension;
+import xyz.ressor.service.RessorService;
 import xyz.ressor.service.proxy.model.*;
 import xyz.ressor.translator.Translator;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -168,6 +180,53 @@ public class ServiceProxyBuilderTest {
 
         assertThat(p1).isNotEqualTo(p2);
         assertThat(p1.getClass()).isNotSameAs(p2.getClass());
+        assertThat(f.apply(new Object[] { 1, 1L }).getClass()).isSameAs(p2.getClass());
+    }
+
+    @Test
+    public void testProxyClassCachingExtensions() {
+        Function<ServiceExtension, PersonInfo> f = ext -> proxyBuilder.buildProxy(
+                ProxyContext.<PersonInfo, JsonNode>builder(PersonInfo.class)
+                .translator(inputStream2Json())
+                .addExtension(ext)
+                .factory(n -> new PersonInfoImpl(null, null)).build());
+
+        var p1 = f.apply(new SerializableExtension("key"));
+        var p2 = f.apply(new SerializableExtension("key"));
+
+        assertThat(p1).isInstanceOf(Serializable.class);
+        assertThat(p1.getClass()).isSameAs(p2.getClass());
+        assertThat(f.apply(new SerializableExtension("other")).getClass()).isNotSameAs(p1.getClass());
+        assertThat(f.apply(new SerializableExtension(null)).getClass())
+                .isNotSameAs(f.apply(new SerializableExtension(null)).getClass());
+
+        var p3 = f.apply(new CloneableExtension("key"));
+
+        assertThat(p3).isInstanceOf(Cloneable.class).isNotInstanceOf(Serializable.class);
+        assertThat(p3.getClass()).isNotSameAs(p1.getClass());
+    }
+
+    @Test
+    public void testProxyClassCachingClassLoaders() throws Exception {
+        BiFunction<ServiceProxyBuilder, ClassLoader, PersonInfo> f = (pb, cl) -> pb.buildProxy(
+                ProxyContext.<PersonInfo, JsonNode>builder(PersonInfo.class)
+                .translator(inputStream2Json())
+                .classLoader(cl)
+                .factory(n -> new PersonInfoImpl(null, null)).build());
+
+        var p1 = f.apply(proxyBuilder, null);
+        var p2 = f.apply(new ServiceProxyBuilder(true), null);
+
+        assertThat(p1.getClass()).isSameAs(p2.getClass());
+
+        try (var classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            var p3 = f.apply(proxyBuilder, classLoader);
+            var p4 = f.apply(new ServiceProxyBuilder(true), classLoader);
+
+            assertThat(p3.getClass()).isNotSameAs(p1.getClass());
+            assertThat(p3.getClass().getClassLoader()).isSameAs(classLoader);
+            assertThat(p3.getClass()).isSameAs(p4.getClass());
+        }
     }
 
     @Test
@@ -197,4 +256,161 @@ public class ServiceProxyBuilderTest {
         assertThat(string.toString()).isEqualTo("123");
     }
 
+    @Test
+    public void testConstantDispatch() {
+        Function<ServiceProxyBuilder, JsonCarRepository> f = pb -> pb.buildProxy(ProxyContext
+                .<JsonCarRepository, JsonNode>builder(JsonCarRepository.class)
+                .translator(inputStream2Json())
+                .initialInstance(new JsonCarRepository("-", "-"))
+                .constantDispatch(true)
+                .build());
+
+        var carRepository = f.apply(proxyBuilder);
+
+        assertThat(carRepository.getModel()).isEqualTo("-");
+
+        ressorService(carRepository).reload(load("classpath:proxy/car_repository.json"));
+
+        assertThat(carRepository.getModel()).isEqualTo("Astra");
+        assertThat(carRepository.getManufacturer()).isEqualTo("Opel");
+
+        ressorService(carRepository).reload(load("classpath:proxy/nested_car_repository.json", true));
+
+        assertThat(carRepository.getModel()).isEqualTo("Scirocco");
+        assertThat(carRepository.getClass()).isNotSameAs(f.apply(proxyBuilder).getClass());
+    }
+
+    @Test
+    public void testPregeneratedProxy() {
+        Function<Boolean, PregeneratedCarRepository> f = proxyObjectClassMethods -> proxyBuilder.buildProxy(ProxyContext
+                .<PregeneratedCarRepository, JsonNode>builder(PregeneratedCarRepository.class)
+                .translator(inputStream2Json())
+                .proxyObjectClassMethods(proxyObjectClassMethods)
+                .build());
+
+        var carRepository = f.apply(true);
+
+        assertThat(carRepository.getClass().getName()).isEqualTo(PregeneratedCarRepository.class.getName() + "$RessorProxy");
+        assertThat(carRepository).isInstanceOf(RessorService.class);
+
+        ressorService(carRepository).reload(load("classpath:proxy/car_repository.json"));
+
+        assertThat(carRepository.getModel()).isEqualTo("Astra");
+        assertThat(carRepository.getManufacturer()).isEqualTo("Opel");
+        assertThat(carRepository.toString()).isEqualTo(ressorService(carRepository).instance().toString());
+
+        assertThat(f.apply(false).getClass()).isNotSameAs(carRepository.getClass());
+    }
+
+    @Test
+    public void testDeterministicClassNames(@TempDir Path dumpDirectory) throws Exception {
+        var dumpingProxyBuilder = new ServiceProxyBuilder(false, dumpDirectory);
+        Function<Boolean, PersonInfo> f = proxyObjectClassMethods -> dumpingProxyBuilder.buildProxy(
+                ProxyContext.<PersonInfo, JsonNode>builder(PersonInfo.class)
+                .translator(inputStream2Json())
+                .proxyObjectClassMethods(proxyObjectClassMethods)
+                .factory(n -> new PersonInfoImpl(null, null)).build());
+
+        var name1 = f.apply(false).getClass().getName();
+        var name2 = f.apply(false).getClass().getName();
+        var name3 = f.apply(true).getClass().getName();
+
+        assertThat(name1).matches("xyz\\.ressor\\.service\\.proxy\\.PersonInfo\\$RessorProxy\\$[0-9a-f]{16}(_\\d+)?");
+        assertThat(name1).isNotEqualTo(name2);
+        assertThat(name1.replaceAll("_\\d+$", "")).isEqualTo(name2.replaceAll("_\\d+$", ""));
+        assertThat(name1.replaceAll("_\\d+$", "")).isNotEqualTo(name3.replaceAll("_\\d+$", ""));
+        for (var name : List.of(name1, name2, name3)) {
+            assertThat(dumpDirectory.resolve(name.replace('.', '/') + ".class")).exists();
+        }
+        assertThat(Files.readAllLines(dumpDirectory.resolve("META-INF/ressor/proxies"), UTF_8))
+                .containsExactly(name1, name2, name3);
+
+        Function<String, String> g = key -> dumpingProxyBuilder.buildProxy(ProxyContext.<PersonInfo, JsonNode>builder(PersonInfo.class)
+                .translator(inputStream2Json())
+                .addExtension(new SerializableExtension(key))
+                .factory(n -> new PersonInfoImpl(null, null)).build()).getClass().getName();
+
+        assertThat(g.apply("a").replaceAll("_\\d+$", "")).isNotEqualTo(g.apply("b").replaceAll("_\\d+$", ""));
+
+        Function<Object, ObjectConstructorService> h = arg -> dumpingProxyBuilder.buildProxy(
+                ProxyContext.<ObjectConstructorService, Object>builder(ObjectConstructorService.class)
+                .translator(Translator.define(s -> arg, InputStream.class, Object.class))
+                .proxyDefaultArguments(arg)
+                .build());
+        var p1 = h.apply(new Object());
+        var p2 = h.apply(new Object());
+
+        // the identity based toString() differs between runs, so it's not a part of the name
+        assertThat(p1.getClass().getName().replaceAll("_\\d+$", "")).isEqualTo(p2.getClass().getName().replaceAll("_\\d+$", ""));
+        assertThat(p1.getClass().getName()).isNotEqualTo(p2.getClass().getName());
+    }
+
+    @Test
+    public void testPrivatePrimitiveFactory() throws Exception {
+        var value = new AtomicInteger(5);
+        var service = proxyBuilder.buildProxy(ProxyContext
+                .<PrimitiveFactoryService, Integer>builder(PrimitiveFactoryService.class)
+                .translator(Translator.define(s -> value.get(), InputStream.class, int.class))
+                .build());
+
+        ressorService(service).reload(string("5"));
+
+        assertThat(service.getValue()).isEqualTo(5);
+
+        value.set(-1);
+
+        assertThrows(IllegalArgumentException.class, () -> ressorService(service).reload(string("-1")));
+        assertThat(service.getValue()).isEqualTo(5);
+
+        var other = proxyBuilder.buildProxy(ProxyContext
+                .<PrimitiveFactoryService, Integer>builder(PrimitiveFactoryService.class)
+                .translator(Translator.define(s -> value.get(), InputStream.class, int.class))
+                .build());
+
+        assertThat(other).isNotSameAs(service);
+        assertThat(factory(other)).isSameAs(factory(service));
+    }
+
+    private static Object factory(Object service) throws ReflectiveOperationException {
+        var field = RessorServiceImpl.class.getDeclaredField("factory");
+        field.setAccessible(true);
+        return field.get(ressorService(service).unwrap());
+    }
+
+    private static class CloneableExtension implements ServiceExtension {
+        private final String key;
+
+        private CloneableExtension(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public <T> DynamicType.Builder<T> interceptProxy(DynamicType.Builder<T> builder, Class<T> type) {
+            return builder.implement(Cloneable.class);
+        }
+
+        @Override
+        public Object cacheKey() {
+            return key;
+        }
+    }
+
+    private static class SerializableExtension implements ServiceExtension {
+        private final String key;
+
+        private SerializableExtension(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public <T> DynamicType.Builder<T> interceptProxy(DynamicType.Builder<T> builder, Class<T> type) {
+            return builder.implement(Serializable.class);
+        }
+
+        @Override
+        public Object cacheKey() {
+            return key;
+        }
+    }
+
 }
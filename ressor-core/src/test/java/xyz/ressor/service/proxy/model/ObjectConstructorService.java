@@ -0,0 +1,14 @@
+package xyz.ressor.service.proxy.model;
+
+public class ObjectConstructorService {
+    private final Object value;
+
+    public ObjectConstructorService(Object value) {
+        this.value = value;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+}
@@ -0,0 +1,30 @@
+package xyz.ressor.service.proxy.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import xyz.ressor.commons.annotations.GenerateProxy;
+import xyz.ressor.commons.annotations.ServiceFactory;
+
+@GenerateProxy
+public class PregeneratedCarRepository {
+    private final String model;
+    private final String manufacturer;
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getManufacturer() {
+        return manufacturer;
+    }
+
+    public PregeneratedCarRepository(String model, String manufacturer) {
+        this.model = model;
+        this.manufacturer = manufacturer;
+    }
+
+    @ServiceFactory
+    public static PregeneratedCarRepository create(JsonNode node) {
+        return new PregeneratedCarRepository(node.path("model").asText(), node.path("manufacturer").asText());
+    }
+
+}
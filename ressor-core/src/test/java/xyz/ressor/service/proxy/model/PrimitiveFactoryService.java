@@ -0,0 +1,24 @@
+package xyz.ressor.service.proxy.model;
+
+import xyz.ressor.commons.annotations.ServiceFactory;
+
+public class PrimitiveFactoryService {
+    private final int value;
+
+    public int getValue() {
+        return value;
+    }
+
+    protected PrimitiveFactoryService(int value) {
+        this.value = value;
+    }
+
+    @ServiceFactory
+    private static PrimitiveFactoryService create(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        return new PrimitiveFactoryService(value);
+    }
+
+}
@@ -11,8 +11,10 @@ import xyz.ressor.source.fs.FileSystemResourceId;
 import xyz.ressor.source.fs.FileSystemSource;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.copy;
@@ -103,6 +105,42 @@ public class FileSystemSourceTest {
         assertThat(source.loadIfModified(id, newResource.getVersion())).isNull();
     }
 
+    @Test
+    public void testMemoryMappedFileSource(@TempDir Path dir) throws Exception {
+        var filePath = dir.resolve("user_data.json");
+        copy(stream("fs/user_data.json"), filePath);
+
+        final var source = new FileSystemSource(null, true);
+        var id = new FileSystemResourceId(filePath);
+        assertThat(source.isMemoryMapped()).isTrue();
+
+        var resource = source.load(id);
+        var expected = IOUtils.toByteArray(stream("fs/user_data.json"));
+
+        assertThat(resource.getBuffers()).hasSize(1);
+        assertThat(resource.getBuffers().get(0).isReadOnly()).isTrue();
+        assertThat(resource.getBuffers().get(0).remaining()).isEqualTo(expected.length);
+        assertThat(resource.getInputStream().readAllBytes()).isEqualTo(expected);
+
+        assertThat(new FileSystemSource().load(id).getBuffers()).isNull();
+    }
+
+    @Test
+    public void testByteBufferInputStream() throws Exception {
+        var stream = new ByteBufferInputStream(List.of(ByteBuffer.wrap("abc".getBytes(UTF_8)),
+                ByteBuffer.allocate(0), ByteBuffer.wrap("def".getBytes(UTF_8))));
+
+        assertThat(stream.remaining()).isEqualTo(6);
+        assertThat(stream.read()).isEqualTo('a');
+        assertThat(stream.skip(3)).isEqualTo(3);
+        assertThat(stream.buffers()).hasSize(1);
+        assertThat(IOUtils.toString(stream, UTF_8)).isEqualTo("ef");
+        assertThat(stream.read()).isEqualTo(-1);
+
+        stream = new ByteBufferInputStream(List.of(ByteBuffer.wrap("abc".getBytes(UTF_8)), ByteBuffer.wrap("def".getBytes(UTF_8))));
+        assertThat(stream.readAllBytes()).isEqualTo("abcdef".getBytes(UTF_8));
+    }
+
     @Test
     public void testFileSourceWatchService(@TempDir Path dir,
                                            @Mock FileSystemWatchService watchService) throws Exception {
@@ -1,19 +1,30 @@
 package xyz.ressor.translator;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import xyz.ressor.source.ByteBufferInputStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.zip.GZIPOutputStream;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static xyz.ressor.commons.utils.FileUtils.classpath;
 import static xyz.ressor.translator.Translator.define;
 import static xyz.ressor.translator.TranslatorHelper.*;
@@ -59,6 +70,45 @@ public class TranslatorHelperTest {
         assertThat(inputStream2String(UTF_8).translate(is)).isEqualTo("abcdef тест");
     }
 
+    @Test
+    public void testInputStream2ByteBuffer() {
+        var bytes = "buffer".getBytes(UTF_8);
+        var source = ByteBuffer.wrap(bytes);
+        var buffer = inputStream2ByteBuffer().translate(new ByteBufferInputStream(List.of(source)));
+
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer).isEqualTo(source);
+        bytes[0] = 'B';
+        assertThat(buffer.get(0)).isEqualTo((byte) 'B');
+
+        buffer = inputStream2ByteBuffer().translate(new ByteArrayInputStream(bytes));
+        assertThat(buffer).isEqualTo(ByteBuffer.wrap("Buffer".getBytes(UTF_8)));
+
+        var string = inputStream2ByteBuffer(define(b -> UTF_8.decode(b).toString(), ByteBuffer.class, String.class));
+        assertThat(string.translate(new ByteBufferInputStream(List.of(ByteBuffer.wrap("a".getBytes(UTF_8)),
+                ByteBuffer.wrap("b".getBytes(UTF_8)))))).isEqualTo("ab");
+    }
+
+    @Test
+    public void testInputStream2OffHeap() {
+        var bytes = new byte[300 * 1024];
+        new Random().nextBytes(bytes);
+        var payload = inputStream2OffHeap().translate(new ByteArrayInputStream(bytes));
+
+        assertThat(payload.size()).isEqualTo(bytes.length);
+        assertThat(payload.buffer().isDirect()).isTrue();
+        assertThat(payload.buffer()).isEqualTo(ByteBuffer.wrap(bytes));
+
+        payload.close();
+        assertThat(payload.isReleased()).isTrue();
+        assertThrows(IllegalStateException.class, payload::buffer);
+
+        payload = inputStream2OffHeap().translate(new ByteBufferInputStream(List.of(ByteBuffer.wrap(bytes, 0, 10),
+                ByteBuffer.wrap(bytes, 10, bytes.length - 10))));
+        assertThat(payload.buffer()).isEqualTo(ByteBuffer.wrap(bytes));
+        payload.close();
+    }
+
     @Test
     public void testInputStream2Xml() {
         var bytes = classpath("translator/event.xml").getBytes(UTF_8);
@@ -177,6 +227,90 @@ public class TranslatorHelperTest {
         checkCar(i.get(0));
     }
 
+    @Test
+    public void testJsonObjectListParallelTranslator() {
+        var bytes = classpath("translator/class_events.json").getBytes(UTF_8);
+        var i = TranslatorHelper.inputStream2JsonObjectListParallel(Car.class).translate(new ByteArrayInputStream(bytes));
+
+        assertThat(i).hasSize(1);
+        checkCar(i.get(0));
+
+        var json = IntStream.range(0, 200_000)
+                .mapToObj(n -> "{\"id\": " + n + ", \"name\": \"[" + n + "],\\\"\"}")
+                .collect(Collectors.joining(",\n", "[", "]"));
+        var pool = new ForkJoinPool(4);
+        try {
+            var nodes = TranslatorHelper.inputStream2JsonObjectListParallel(JsonNode.class, new ObjectMapper(), pool)
+                    .translate(new ByteArrayInputStream(json.getBytes(UTF_8)));
+
+            assertThat(nodes).hasSize(200_000);
+            for (var n = 0; n < nodes.size(); n++) {
+                assertThat(nodes.get(n).get("id").asInt()).isEqualTo(n);
+                assertThat(nodes.get(n).get("name").asText()).isEqualTo("[" + n + "],\"");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testJsonLinesParallelTranslator() {
+        var lines = IntStream.range(0, 200_000)
+                .mapToObj(n -> "{\"id\": " + n + "}")
+                .collect(Collectors.joining("\n"));
+        var nodes = TranslatorHelper.inputStream2JsonLinesParallel(JsonNode.class)
+                .translate(new ByteArrayInputStream(lines.getBytes(UTF_8)));
+
+        assertThat(nodes).hasSize(200_000);
+        for (var n = 0; n < nodes.size(); n++) {
+            assertThat(nodes.get(n).get("id").asInt()).isEqualTo(n);
+        }
+    }
+
+    @Test
+    public void testMalformedJsonParallelTranslator() {
+        assertThrows(JsonProcessingException.class, () -> TranslatorHelper.inputStream2JsonObjectListParallel(JsonNode.class)
+                .translate(new ByteArrayInputStream("[{\"id\": 1}, {\"id\": ".getBytes(UTF_8))));
+        assertThrows(JsonProcessingException.class, () -> TranslatorHelper.inputStream2JsonLinesParallel(JsonNode.class)
+                .translate(new ByteArrayInputStream("{\"id\": 1}\n{\"id\"".getBytes(UTF_8))));
+    }
+
+    @Test
+    public void testMalformedJsonArrayParallelTranslator() {
+        Function<String, List<Integer>> f = json -> TranslatorHelper.inputStream2JsonObjectListParallel(Integer.class)
+                .translate(new ByteArrayInputStream(json.getBytes(UTF_8)));
+
+        assertThat(f.apply("[]")).isEmpty();
+        assertThat(f.apply(" [ ] ")).isEmpty();
+        assertThat(f.apply("[ 1 ,\n2 ]")).containsExactly(1, 2);
+        for (var json : List.of("[1,,2]", "[1 2]", "[1,]", "[,1]", "[,]", "[[1] 2]", "[\"a\" \"b\"]", "[{}{}]")) {
+            assertThrows(JsonParseException.class, () -> f.apply(json), json);
+        }
+    }
+
+    @Test
+    public void testJsonObjectStreamTranslator() {
+        var input = new ClosingInputStream(classpath("translator/class_events.json").getBytes(UTF_8));
+        var cars = TranslatorHelper.inputStream2JsonObjectStream(Car.class).translate(input).iterator();
+
+        assertThat(cars.hasNext()).isTrue();
+        checkCar(cars.next());
+        assertThat(input.closed).isFalse();
+        assertThat(cars.hasNext()).isFalse();
+        assertThat(input.closed).isTrue();
+    }
+
+    @Test
+    public void testYamlObjectStreamTranslator() {
+        var input = new ClosingInputStream(classpath("translator/class_events.yaml").getBytes(UTF_8));
+        var cars = TranslatorHelper.inputStream2YamlObjectStream(Car.class).translate(input);
+
+        try (cars) {
+            checkCar(cars.findFirst().orElseThrow());
+        }
+        assertThat(input.closed).isTrue();
+    }
+
     private void translateAndCheckCar(byte[] bytes, Translator<InputStream, Car> translator) {
         checkCar(translator.translate(new ByteArrayInputStream(bytes)));
     }
@@ -188,4 +322,17 @@ public class TranslatorHelperTest {
         assertThat(car.getWeight()).isEqualByComparingTo(4647d);
     }
 
+    private static class ClosingInputStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        private ClosingInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
 }
@@ -26,10 +26,14 @@ public class TestUtils {
     }
 
     public static LoadedResource stringVersioned(String value) {
+        return stringVersioned(value, value);
+    }
+
+    public static LoadedResource stringVersioned(String value, Object version) {
         return new LoadedResource(new ByteArrayInputStream(value.getBytes()), new SourceVersion() {
             @Override
             public <V> V val() {
-                return (V) value;
+                return (V) version;
             }
         }, null);
     }
@@ -18,6 +18,8 @@ import xyz.ressor.source.version.LastModified;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
@@ -176,6 +178,9 @@ public class GitSource extends AbstractSource<GitResourceId> implements NonListe
                 var blobId = treeWalk.getObjectId(0);
                 try (var objectReader = git.getRepository().newObjectReader()) {
                     var objectLoader = objectReader.open(blobId);
+                    if (!objectLoader.isLarge()) {
+                        return new ByteBufferInputStream(List.of(ByteBuffer.wrap(objectLoader.getCachedBytes())));
+                    }
                     return objectLoader.openStream();
                 }
             } else {
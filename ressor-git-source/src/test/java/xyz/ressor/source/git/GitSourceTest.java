@@ -47,6 +47,7 @@ public class GitSourceTest {
 
         assertThat(toString(source, path("data.txt"))).isEqualTo("master data");
         assertThat(toString(source, path("data.txt", "develop"))).isEqualTo("develop data");
+        assertThat(source.load(path("data.txt")).getBuffers()).hasSize(1);
 
         assertThrows(FileNotFoundException.class, () -> source.load(path("nodata.txt", "develop")));
         assertThrows(IllegalArgumentException.class, () -> source.load(path("data.txt", "nobranch")));
@@ -0,0 +1,179 @@
+package xyz.ressor.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import xyz.ressor.Ressor;
+import xyz.ressor.metrics.Histogram;
+import xyz.ressor.metrics.ReloadOutcome;
+import xyz.ressor.metrics.RessorMetrics;
+import xyz.ressor.metrics.ServiceMetrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds the reload and polling statistics of a {@link Ressor} instance to the {@link MeterRegistry}.
+ * <p/>
+ * The services are tagged by their type and the type of their source, so the amount of the reported series depends
+ * only on the code, not on the amount of the resources. Services sharing the same tags are reported together. The
+ * resource tag can be enabled with {@link #RessorMeterBinder(RessorMetrics, Iterable, boolean)}, which is only advisable
+ * for a small and fixed set of resources.
+ * <p/>
+ * The services created after binding are reported too.
+ */
+public class RessorMeterBinder implements MeterBinder {
+    private static final List<ToLongFunction<ServiceMetrics>> TOTALS = new ArrayList<>();
+    private static final ToLongFunction<ServiceMetrics>[] LOAD_TIME = timer(ServiceMetrics::loadTime);
+    private static final ToLongFunction<ServiceMetrics>[] TRANSLATE_TIME = timer(ServiceMetrics::translateTime);
+    private static final ToLongFunction<ServiceMetrics>[] FACTORY_TIME = timer(ServiceMetrics::factoryTime);
+    private static final ToLongFunction<ServiceMetrics>[] SWAP_TIME = timer(ServiceMetrics::swapTime);
+    private static final ToLongFunction<ServiceMetrics> BYTES_READ = total(m -> m.bytesRead().sum());
+    private static final ToLongFunction<ServiceMetrics> POLLS = total(ServiceMetrics::polls);
+    private static final ToLongFunction<ServiceMetrics>[] OUTCOMES = outcomes();
+    private static final ToLongFunction<ServiceMetrics> VERSION_AGE = ServiceMetrics::versionAgeMillis;
+    private static final ToLongFunction<ServiceMetrics> RELOADS_IN_PROGRESS = ServiceMetrics::reloadsInProgress;
+    private final RessorMetrics metrics;
+    private final Tags tags;
+    private final boolean resourceTags;
+    private final List<MeterRegistry> registries = new ArrayList<>();
+    private final Map<Tags, ServiceGroup> groups = new HashMap<>();
+
+    public RessorMeterBinder(Ressor ressor) {
+        this(ressor.metrics(), Tags.empty(), false);
+    }
+
+    /**
+     * @param tags common tags of all the meters
+     * @param resourceTags whether to report every resource separately
+     */
+    public RessorMeterBinder(RessorMetrics metrics, Iterable<Tag> tags, boolean resourceTags) {
+        this.metrics = metrics;
+        this.tags = Tags.of(tags);
+        this.resourceTags = resourceTags;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        registries.add(registry);
+        if (registries.size() == 1) {
+            metrics.onRegister(this::add);
+            metrics.services().forEach(this::add);
+        } else {
+            groups.forEach((groupTags, group) -> bindGroup(registry, groupTags, group));
+        }
+        bindPools(registry);
+    }
+
+    private synchronized void add(ServiceMetrics service) {
+        var groupTags = tags.and("service", service.type().getName())
+                .and("source", service.resourceId() == null ? "none" : service.resourceId().sourceType().getSimpleName());
+        if (resourceTags) {
+            groupTags = groupTags.and("resource", String.valueOf(service.resourceId()));
+        }
+        var group = groups.get(groupTags);
+        if (group == null) {
+            group = new ServiceGroup(TOTALS);
+            groups.put(groupTags, group);
+            for (var registry : registries) {
+                bindGroup(registry, groupTags, group);
+            }
+        }
+        group.add(service);
+    }
+
+    private void bindGroup(MeterRegistry registry, Tags groupTags, ServiceGroup group) {
+        bindTimer(registry, "ressor.reload.load", "Time spent loading the resources from the sources",
+                groupTags, group, LOAD_TIME);
+        bindTimer(registry, "ressor.reload.translate", "Time spent translating the loaded resources",
+                groupTags, group, TRANSLATE_TIME);
+        bindTimer(registry, "ressor.reload.factory", "Time spent creating the service instances",
+                groupTags, group, FACTORY_TIME);
+        bindTimer(registry, "ressor.reload.swap", "Time spent publishing the new service instances",
+                groupTags, group, SWAP_TIME);
+        FunctionCounter.builder("ressor.reload.bytes", group, g -> g.total(BYTES_READ))
+                .tags(groupTags)
+                .baseUnit("bytes")
+                .description("Amount of the resource bytes read by the reloads")
+                .register(registry);
+        for (var outcome : ReloadOutcome.values()) {
+            var statistic = OUTCOMES[outcome.ordinal()];
+            FunctionCounter.builder("ressor.reloads", group, g -> g.total(statistic))
+                    .tags(groupTags.and("outcome", outcome.name().toLowerCase()))
+                    .description("Reload attempts by their outcome, where not_modified are the polls finding no changes")
+                    .register(registry);
+        }
+        FunctionCounter.builder("ressor.polls", group, g -> g.total(POLLS))
+                .tags(groupTags)
+                .description("Polling trigger firings")
+                .register(registry);
+        Gauge.builder("ressor.version.age", group, g -> {
+                    var age = g.max(VERSION_AGE);
+                    return age < 0 ? Double.NaN : age / 1000.0;
+                })
+                .tags(groupTags)
+                .baseUnit("seconds")
+                .description("Age of the oldest current service instance")
+                .register(registry);
+        Gauge.builder("ressor.reloads.active", group, g -> g.sum(RELOADS_IN_PROGRESS))
+                .tags(groupTags)
+                .description("Reloads running right now")
+                .register(registry);
+    }
+
+    private void bindTimer(MeterRegistry registry, String name, String description, Tags groupTags, ServiceGroup group,
+                           ToLongFunction<ServiceMetrics>[] statistics) {
+        FunctionTimer.builder(name, group, g -> g.total(statistics[0]), g -> g.total(statistics[1]), TimeUnit.NANOSECONDS)
+                .tags(groupTags)
+                .description(description)
+                .register(registry);
+    }
+
+    private void bindPools(MeterRegistry registry) {
+        if (metrics.threadPool() != null) {
+            new ExecutorServiceMetrics(metrics.threadPool(), "ressor.reload", tags).bindTo(registry);
+        }
+        Gauge.builder("ressor.polling.threads", metrics, RessorMetrics::pollingThreads)
+                .tags(tags)
+                .description("Size of the polling thread pool")
+                .register(registry);
+        Gauge.builder("ressor.polling.active", metrics, RessorMetrics::activePolls)
+                .tags(tags)
+                .description("Polling jobs running right now")
+                .register(registry);
+    }
+
+    private static ToLongFunction<ServiceMetrics> total(ToLongFunction<ServiceMetrics> statistic) {
+        synchronized (TOTALS) {
+            TOTALS.add(statistic);
+        }
+        return statistic;
+    }
+
+    /**
+     * @return the count and the total time of the given histogram
+     */
+    private static ToLongFunction<ServiceMetrics>[] timer(Function<ServiceMetrics, Histogram> histogram) {
+        return new ToLongFunction[] { total(m -> histogram.apply(m).count()), total(m -> histogram.apply(m).sum()) };
+    }
+
+    private static ToLongFunction<ServiceMetrics>[] outcomes() {
+        var values = ReloadOutcome.values();
+        var result = (ToLongFunction<ServiceMetrics>[]) new ToLongFunction[values.length];
+        for (var outcome : values) {
+            result[outcome.ordinal()] = total(m -> m.count(outcome));
+        }
+        return result;
+    }
+
+}
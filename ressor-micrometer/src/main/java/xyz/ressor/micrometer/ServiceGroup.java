@@ -0,0 +1,74 @@
+package xyz.ressor.micrometer;
+
+import xyz.ressor.metrics.ServiceMetrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Statistics of the services reported under the same tags.
+ * <p/>
+ * Totals of the garbage collected services are kept, so that the counters never go down, while the gauges account
+ * only the alive services.
+ */
+class ServiceGroup {
+    private final Set<ServiceMetrics> services = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<ToLongFunction<ServiceMetrics>, Long> collected = new HashMap<>();
+
+    ServiceGroup(List<ToLongFunction<ServiceMetrics>> totals) {
+        for (var total : totals) {
+            collected.put(total, 0L);
+        }
+    }
+
+    synchronized void add(ServiceMetrics metrics) {
+        services.add(metrics);
+    }
+
+    /**
+     * The total of the given statistic across all the services ever added, which must be one of the totals the group
+     * was created with.
+     */
+    synchronized long total(ToLongFunction<ServiceMetrics> statistic) {
+        prune();
+        var result = (long) collected.get(statistic);
+        for (var metrics : services) {
+            result += statistic.applyAsLong(metrics);
+        }
+        return result;
+    }
+
+    synchronized long sum(ToLongFunction<ServiceMetrics> statistic) {
+        prune();
+        var result = 0L;
+        for (var metrics : services) {
+            result += statistic.applyAsLong(metrics);
+        }
+        return result;
+    }
+
+    synchronized long max(ToLongFunction<ServiceMetrics> statistic) {
+        prune();
+        var result = Long.MIN_VALUE;
+        for (var metrics : services) {
+            result = Math.max(result, statistic.applyAsLong(metrics));
+        }
+        return result;
+    }
+
+    private void prune() {
+        for (var it = services.iterator(); it.hasNext(); ) {
+            var metrics = it.next();
+            if (!metrics.isAlive()) {
+                collected.replaceAll((statistic, total) -> total + statistic.applyAsLong(metrics));
+                it.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package xyz.ressor.micrometer;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import xyz.ressor.Ressor;
+
+import java.nio.file.Files;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static xyz.ressor.translator.Translators.string;
+
+public class RessorMeterBinderTest {
+
+    @Test
+    public void testServiceMeters() throws Exception {
+        var file = Files.createTempFile("ressor", ".txt");
+        Files.writeString(file, "first");
+        var ressor = Ressor.create();
+        try {
+            var registry = new SimpleMeterRegistry();
+            new RessorMeterBinder(ressor).bindTo(registry);
+            var service = ressor.service(CharSequence.class)
+                    .fileSource(file)
+                    .translator(string())
+                    .factory(Function.identity())
+                    .build();
+            Files.writeString(file, "second");
+            ressor.reload(service);
+
+            var tags = Tags.of("service", CharSequence.class.getName(), "source", "FileSystemSource");
+            assertThat(registry.get("ressor.reloads").tags(tags).tag("outcome", "changed").functionCounter().count())
+                    .isEqualTo(2);
+            assertThat(registry.get("ressor.reloads").tags(tags).tag("outcome", "error").functionCounter().count())
+                    .isEqualTo(0);
+            assertThat(registry.get("ressor.reload.load").tags(tags).functionTimer().count()).isEqualTo(2);
+            assertThat(registry.get("ressor.reload.bytes").tags(tags).functionCounter().count()).isEqualTo(11);
+            assertThat(registry.get("ressor.version.age").tags(tags).gauge().value()).isGreaterThanOrEqualTo(0);
+            assertThat(registry.get("ressor.reloads.active").tags(tags).gauge().value()).isEqualTo(0);
+            assertThat(registry.find("ressor.reloads").tagKeys("resource").functionCounter()).isNull();
+            assertThat(registry.get("ressor.polling.threads").gauge().value()).isPositive();
+        } finally {
+            ressor.shutdown();
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package xyz.ressor.processor;
+
+import javax.lang.model.element.Element;
+
+public class ProxyDefinitionException extends RuntimeException {
+    private final Element element;
+
+    public ProxyDefinitionException(Element element, String message) {
+        super(message);
+        this.element = element;
+    }
+
+    public Element getElement() {
+        return element;
+    }
+
+}
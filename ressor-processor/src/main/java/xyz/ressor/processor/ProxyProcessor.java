@@ -0,0 +1,75 @@
+package xyz.ressor.processor;
+
+import xyz.ressor.commons.annotations.GenerateProxy;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates Ressor service proxy classes at compile time for the types annotated with {@link GenerateProxy}.
+ *
+ * The generated proxy is placed into the same package as the service type and named as the binary name of the type
+ * with <b>$RessorProxy</b> suffix, which is the name {@code ServiceProxyBuilder} is looking for at runtime. The names of
+ * the generated proxies are listed in the <b>META-INF/ressor/proxies</b> resource, which {@code ServiceProxyBuilder}
+ * checks before loading the class.
+ */
+@SupportedAnnotationTypes("xyz.ressor.commons.annotations.GenerateProxy")
+public class ProxyProcessor extends AbstractProcessor {
+    private static final String PROXY_INDEX = "META-INF/ressor/proxies";
+    private final Set<String> proxyNames = new TreeSet<>();
+    private final List<Element> proxyElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var element : roundEnv.getElementsAnnotatedWith(GenerateProxy.class)) {
+            var messager = processingEnv.getMessager();
+            try {
+                var generator = new ProxySourceGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(),
+                        (TypeElement) element);
+                var source = generator.generate();
+                try (var writer = processingEnv.getFiler().createSourceFile(generator.proxyName(), element).openWriter()) {
+                    writer.write(source);
+                }
+                proxyNames.add(generator.proxyName());
+                proxyElements.add(element);
+            } catch (ProxyDefinitionException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Unable to write Ressor proxy source: " + e.getMessage(), element);
+            }
+        }
+        if (roundEnv.processingOver() && !proxyNames.isEmpty()) {
+            writeIndex();
+        }
+        return true;
+    }
+
+    private void writeIndex() {
+        try (var writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PROXY_INDEX,
+                proxyElements.toArray(new Element[0])).openWriter()) {
+            for (var name : proxyNames) {
+                writer.write(name);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write Ressor proxy index: " + e.getMessage());
+        }
+    }
+
+}
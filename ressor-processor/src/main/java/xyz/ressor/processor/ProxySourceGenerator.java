@@ -0,0 +1,267 @@
+package xyz.ressor.processor;
+
+import xyz.ressor.commons.annotations.ProxyConstructor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static javax.lang.model.util.ElementFilter.constructorsIn;
+import static javax.lang.model.util.ElementFilter.methodsIn;
+
+/**
+ * Generates the source code of a proxy class, which is equivalent to the one built by {@code ServiceProxyBuilder} at
+ * runtime with the default options.
+ */
+public class ProxySourceGenerator {
+    public static final String PROXY_SUFFIX = "$RessorProxy";
+    private static final String RS_VAR = "__$$rs";
+    private static final String RS_METHOD = "__$$grs";
+    private static final String RESSOR_SERVICE = "xyz.ressor.service.RessorService";
+    private static final String RESSOR_SERVICE_IMPL = "xyz.ressor.service.proxy.RessorServiceImpl";
+    private static final String DEFAULT_INSTANCE = "xyz.ressor.commons.utils.RessorUtils.defaultInstance";
+    private static final Set<String> OBJECT_METHODS = Set.of("equals(java.lang.Object)", "hashCode()", "toString()");
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement type;
+    private final String typeName;
+    private final Set<String> signatures = new HashSet<>();
+    private final StringBuilder out = new StringBuilder();
+
+    public ProxySourceGenerator(Elements elements, Types types, TypeElement type) {
+        this.elements = elements;
+        this.types = types;
+        this.type = type;
+        this.typeName = type.getQualifiedName().toString();
+    }
+
+    public String proxyName() {
+        return elements.getBinaryName(type) + PROXY_SUFFIX;
+    }
+
+    public String generate() {
+        validate();
+        var serviceType = elements.getTypeElement(RESSOR_SERVICE);
+        if (serviceType == null) {
+            throw new ProxyDefinitionException(type, "Unable to find " + RESSOR_SERVICE + ", please make sure ressor-core " +
+                    "is on the compilation classpath");
+        }
+        var packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        var proxyName = proxyName();
+        var simpleName = packageName.isEmpty() ? proxyName : proxyName.substring(packageName.length() + 1);
+        var isInterface = type.getKind() == ElementKind.INTERFACE;
+
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("@javax.annotation.processing.Generated(\"").append(ProxyProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings(\"unchecked\")\n")
+                .append(type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+                .append("class ").append(simpleName)
+                .append(isInterface ? " implements " : " extends ").append(typeName)
+                .append(isInterface ? ", " : " implements ").append(RESSOR_SERVICE).append('<').append(typeName).append("> {\n")
+                .append("    private final ").append(serviceImplType()).append(' ').append(RS_VAR).append(";\n\n");
+        writeConstructor(simpleName, isInterface);
+        out.append("    private ").append(typeName).append(' ').append(RS_METHOD).append("() {\n")
+                .append("        return ").append(RS_VAR).append(".instance();\n    }\n");
+
+        var declaredType = (DeclaredType) type.asType();
+        var allMethods = methodsIn(elements.getAllMembers(type));
+        for (var method : allMethods) {
+            if (isProxied(method, allMethods)) {
+                var methodType = (ExecutableType) types.asMemberOf(declaredType, method);
+                var signature = signature(method, methodType);
+                if (OBJECT_METHODS.contains(signature)) {
+                    continue;
+                }
+                writeMethod(method, methodType, RS_METHOD + "()");
+                signatures.add(signature);
+            }
+        }
+        var serviceDeclaredType = types.getDeclaredType(serviceType, type.asType());
+        for (var method : methodsIn(serviceType.getEnclosedElements())) {
+            var modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.DEFAULT) && !modifiers.contains(Modifier.STATIC)) {
+                var methodType = (ExecutableType) types.asMemberOf(serviceDeclaredType, method);
+                if (!signatures.contains(signature(method, methodType))) {
+                    writeMethod(method, methodType, RS_VAR);
+                }
+            }
+        }
+        var objectType = elements.getTypeElement(Object.class.getName());
+        for (var method : methodsIn(objectType.getEnclosedElements())) {
+            var methodType = (ExecutableType) method.asType();
+            var signature = signature(method, methodType);
+            if (OBJECT_METHODS.contains(signature) && allMethods.stream().noneMatch(m -> m.getModifiers().contains(Modifier.FINAL) &&
+                    signature.equals(signature(m, (ExecutableType) m.asType())))) {
+                writeMethod(method, methodType, RS_METHOD + "()");
+            }
+        }
+        return out.append("\n}\n").toString();
+    }
+
+    private void validate() {
+        var kind = type.getKind();
+        if (kind != ElementKind.CLASS && kind != ElementKind.INTERFACE) {
+            throw new ProxyDefinitionException(type, "Ressor proxy can be generated only for classes and interfaces");
+        }
+        var modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.FINAL)) {
+            throw new ProxyDefinitionException(type, "Unable to generate Ressor proxy for the final class " + typeName);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new ProxyDefinitionException(type, "Generic types are not supported by the compile time proxy generation, " +
+                    "please use the runtime one for " + typeName);
+        }
+        Element e = type;
+        while (e.getKind().isClass() || e.getKind().isInterface()) {
+            var te = (TypeElement) e;
+            if (te.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new ProxyDefinitionException(type, "Unable to generate Ressor proxy for the private type " + typeName);
+            }
+            if (te.getNestingKind() == NestingKind.MEMBER) {
+                if (te.getKind() == ElementKind.CLASS && !te.getModifiers().contains(Modifier.STATIC)) {
+                    throw new ProxyDefinitionException(type, "Unable to generate Ressor proxy for the inner class " +
+                            typeName + ", please make it static");
+                }
+            } else if (te.getNestingKind() != NestingKind.TOP_LEVEL) {
+                throw new ProxyDefinitionException(type, "Unable to generate Ressor proxy for the local type " + typeName);
+            }
+            e = e.getEnclosingElement();
+        }
+    }
+
+    private String serviceImplType() {
+        return RESSOR_SERVICE_IMPL + '<' + typeName + ", ?>";
+    }
+
+    private void writeConstructor(String simpleName, boolean isInterface) {
+        out.append("    public ").append(simpleName).append('(').append(serviceImplType()).append(" rs)");
+        if (isInterface) {
+            out.append(" {\n");
+        } else {
+            writeSuperConstructorCall();
+        }
+        out.append("        this.").append(RS_VAR).append(" = rs;\n    }\n\n");
+    }
+
+    private void writeSuperConstructorCall() {
+        var constructors = new ArrayList<>(constructorsIn(type.getEnclosedElements()));
+        if (constructors.isEmpty()) {
+            throw new ProxyDefinitionException(type, "No constructors were found for class, unable to generate a proxy");
+        }
+        constructors.sort(Comparator.comparingInt(this::weight).reversed()
+                .thenComparingInt(c -> c.getParameters().size()));
+        var constructor = constructors.get(0);
+        if (!constructor.getParameters().isEmpty()) {
+            constructor = constructors.stream()
+                    .filter(c -> c.getAnnotation(ProxyConstructor.class) != null)
+                    .findFirst().orElse(constructor);
+        }
+        if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new ProxyDefinitionException(type, "All available constructors are private, unable to define a proxy class");
+        }
+        var constructorType = (ExecutableType) types.asMemberOf((DeclaredType) type.asType(), constructor);
+        var arguments = constructorType.getParameterTypes().stream()
+                .map(t -> "(" + t + ") " + DEFAULT_INSTANCE + "(" + types.erasure(t) + ".class)")
+                .collect(Collectors.joining(", "));
+        out.append(throwsClause(constructorType)).append(" {\n")
+                .append("        super(").append(arguments).append(");\n");
+    }
+
+    private void writeMethod(ExecutableElement method, ExecutableType methodType, String target) {
+        var modifiers = method.getModifiers();
+        var visibility = modifiers.contains(Modifier.PUBLIC) ? "public " : modifiers.contains(Modifier.PROTECTED) ? "protected " : "";
+        var parameters = method.getParameters();
+        var parameterTypes = methodType.getParameterTypes();
+        var declaration = new StringJoiner(", ");
+        var arguments = new StringJoiner(", ");
+        for (var i = 0; i < parameters.size(); i++) {
+            var parameterType = parameterTypes.get(i);
+            var name = parameters.get(i).getSimpleName().toString();
+            if (method.isVarArgs() && i == parameters.size() - 1) {
+                declaration.add(((ArrayType) parameterType).getComponentType() + "... " + name);
+            } else {
+                declaration.add(parameterType + " " + name);
+            }
+            arguments.add(name);
+        }
+        var isVoid = methodType.getReturnType().getKind() == TypeKind.VOID;
+        out.append("\n    @Override\n    ").append(visibility).append(typeVariables(methodType))
+                .append(methodType.getReturnType()).append(' ').append(method.getSimpleName())
+                .append('(').append(declaration).append(')').append(throwsClause(methodType)).append(" {\n")
+                .append("        ").append(isVoid ? "" : "return ").append(target).append('.').append(method.getSimpleName())
+                .append('(').append(arguments).append(");\n    }\n");
+    }
+
+    private boolean isProxied(ExecutableElement method, List<ExecutableElement> allMethods) {
+        var modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.PRIVATE) ||
+                modifiers.contains(Modifier.DEFAULT)) {
+            return false;
+        }
+        var owner = (TypeElement) method.getEnclosingElement();
+        if (owner.getQualifiedName().contentEquals(Object.class.getName())) {
+            return false;
+        }
+        if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(owner).equals(elements.getPackageOf(type))) {
+            return false;
+        }
+        return !isOverridden(method, allMethods);
+    }
+
+    private boolean isOverridden(ExecutableElement method, List<ExecutableElement> allMethods) {
+        for (var other : allMethods) {
+            if (other != method && elements.overrides(other, method, type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String signature(ExecutableElement method, ExecutableType methodType) {
+        return method.getSimpleName() + methodType.getParameterTypes().stream()
+                .map(t -> types.erasure(t).toString())
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private String typeVariables(ExecutableType methodType) {
+        if (methodType.getTypeVariables().isEmpty()) {
+            return "";
+        }
+        return methodType.getTypeVariables().stream()
+                .map(v -> {
+                    var bound = v.getUpperBound();
+                    var bounds = bound.getKind() == TypeKind.INTERSECTION ?
+                            ((IntersectionType) bound).getBounds().stream().map(Object::toString).collect(Collectors.joining(" & ")) :
+                            bound.toString();
+                    return bounds.equals(Object.class.getName()) ? v.toString() : v + " extends " + bounds;
+                })
+                .collect(Collectors.joining(", ", "<", "> "));
+    }
+
+    private String throwsClause(ExecutableType methodType) {
+        if (methodType.getThrownTypes().isEmpty()) {
+            return "";
+        }
+        return methodType.getThrownTypes().stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(", ", " throws ", ""));
+    }
+
+    private int weight(ExecutableElement constructor) {
+        var modifiers = constructor.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return 1;
+        } else if (modifiers.contains(Modifier.PROTECTED)) {
+            return 3;
+        } else if (modifiers.contains(Modifier.PUBLIC)) {
+            return 4;
+        }
+        return 2;
+    }
+
+}
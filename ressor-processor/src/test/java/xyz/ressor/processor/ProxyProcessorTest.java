@@ -0,0 +1,108 @@
+package xyz.ressor.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProxyProcessorTest {
+    @TempDir
+    Path output;
+
+    @Test
+    public void testClassProxy() throws Exception {
+        var diagnostics = compile("test.CarRepository", "package test;\n" +
+                "import xyz.ressor.commons.annotations.*;\n" +
+                "@GenerateProxy\n" +
+                "public abstract class CarRepository implements Comparable<CarRepository> {\n" +
+                "    public CarRepository(String model, int year) { }\n" +
+                "    @ProxyConstructor protected CarRepository(long id) throws java.io.IOException { }\n" +
+                "    public abstract String getModel();\n" +
+                "    protected abstract <T extends Number & Comparable<T>> T max(T... values);\n" +
+                "    void packagePrivate(java.util.Map<String, ? extends Number> map) { }\n" +
+                "    public final String finalMethod() { return getModel(); }\n" +
+                "    public static void staticMethod() { }\n" +
+                "}\n");
+
+        assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+        var source = Files.readString(output.resolve("test/CarRepository$RessorProxy.java"), UTF_8);
+        assertThat(source).contains("public class CarRepository$RessorProxy extends test.CarRepository " +
+                "implements xyz.ressor.service.RessorService<test.CarRepository>");
+        assertThat(source).contains("super((long) xyz.ressor.commons.utils.RessorUtils.defaultInstance(long.class))");
+        assertThat(source).contains("return __$$grs().getModel();");
+        assertThat(source).contains("return __$$grs().compareTo(");
+        assertThat(source).contains("__$$grs().packagePrivate(map);");
+        assertThat(source).contains("return __$$grs().toString();");
+        assertThat(source).contains("return __$$rs.instance();");
+        assertThat(source).doesNotContain("finalMethod", "staticMethod");
+        assertThat(Files.exists(output.resolve("test/CarRepository$RessorProxy.class"))).isTrue();
+        assertThat(Files.readAllLines(output.resolve("META-INF/ressor/proxies"), UTF_8))
+                .containsExactly("test.CarRepository$RessorProxy");
+    }
+
+    @Test
+    public void testNestedInterfaceProxy() throws Exception {
+        var diagnostics = compile("test.Outer", "package test;\n" +
+                "import xyz.ressor.commons.annotations.*;\n" +
+                "public class Outer {\n" +
+                "    @GenerateProxy\n" +
+                "    interface PersonInfo {\n" +
+                "        String firstName();\n" +
+                "        default String name() { return firstName(); }\n" +
+                "    }\n" +
+                "}\n");
+
+        assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+        var source = Files.readString(output.resolve("test/Outer$PersonInfo$RessorProxy.java"), UTF_8);
+        assertThat(source).contains("class Outer$PersonInfo$RessorProxy implements test.Outer.PersonInfo, " +
+                "xyz.ressor.service.RessorService<test.Outer.PersonInfo>");
+        assertThat(source).contains("return __$$grs().firstName();");
+        assertThat(source).doesNotContain("name()");
+        assertThat(Files.readAllLines(output.resolve("META-INF/ressor/proxies"), UTF_8))
+                .containsExactly("test.Outer$PersonInfo$RessorProxy");
+    }
+
+    @Test
+    public void testUnsupportedTypes() throws Exception {
+        assertError(compile("test.FinalClass", "package test;\n" +
+                "@xyz.ressor.commons.annotations.GenerateProxy\n" +
+                "public final class FinalClass { }\n"), "final class");
+        assertError(compile("test.GenericClass", "package test;\n" +
+                "@xyz.ressor.commons.annotations.GenerateProxy\n" +
+                "public class GenericClass<T> { }\n"), "Generic types are not supported");
+        assertError(compile("test.PrivateConstructor", "package test;\n" +
+                "@xyz.ressor.commons.annotations.GenerateProxy\n" +
+                "public class PrivateConstructor { private PrivateConstructor() { } }\n"), "constructors are private");
+    }
+
+    private void assertError(DiagnosticCollector<JavaFileObject> diagnostics, String message) {
+        assertThat(diagnostics.getDiagnostics()).anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR &&
+                d.getMessage(null).contains(message));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String className, String source) throws Exception {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        var options = List.of("-d", output.toString(), "-s", output.toString(),
+                "-classpath", System.getProperty("java.class.path"));
+        var task = compiler.getTask(null, null, diagnostics, options, null, List.of(file));
+        task.setProcessors(List.of(new ProxyProcessor()));
+        task.call();
+        return diagnostics;
+    }
+
+}
@@ -17,4 +17,9 @@ public class FactoryBeanExtension implements ServiceExtension {
                 .method(named("getObjectType"))
                 .intercept(MethodCall.invoke(named("underlyingType")));
     }
+
+    @Override
+    public Object cacheKey() {
+        return FactoryBeanExtension.class;
+    }
 }
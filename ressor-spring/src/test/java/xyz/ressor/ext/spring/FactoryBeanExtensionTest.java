@@ -34,6 +34,12 @@ public class FactoryBeanExtensionTest {
         assertThat(((FactoryBean) instance).getObjectType()).isSameAs(TestRessorService.class);
     }
 
+    @Test
+    public void testCacheKey() {
+        assertThat(new FactoryBeanExtension().cacheKey()).isNotNull()
+                .isEqualTo(new FactoryBeanExtension().cacheKey());
+    }
+
     public static class TestRessorService implements RessorService<Object> {
         public static final Object INSTANCE = new Object();
 